@@ -0,0 +1,92 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.translation.AsyncTranslationRepository;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncTranslationBenchmark {
+
+    @Param({"1000"})
+    public long roundTripMicros;
+
+    private ExecutorService executor;
+    private NewMyCompanyHandBaggageInformationFactory blockingFactory;
+    private NewMyCompanyHandBaggageInformationFactory asyncFactory;
+    private NewMyCompanyHandBaggageInformationFactory bulkFactory;
+
+    @Setup
+    public void setUp() {
+        InMemoryTranslationRepository translations = InMemoryTranslationRepository.withHandBaggageTranslations();
+        TranslationRepository remoteCatalog = (key, language) -> {
+            roundTrip();
+            return translations.retrieve(key, language);
+        };
+        TranslationRepository bulkRemoteCatalog = new TranslationRepository() {
+            @Override
+            public String retrieve(String key, String language) {
+                return remoteCatalog.retrieve(key, language);
+            }
+
+            @Override
+            public Map<String, String> retrieveAll(Collection<String> keys, String language) {
+                roundTrip();
+                return translations.retrieveAll(keys, language);
+            }
+        };
+
+        executor = Executors.newFixedThreadPool(4);
+        blockingFactory = new NewMyCompanyHandBaggageInformationFactory(remoteCatalog);
+        asyncFactory = NewMyCompanyHandBaggageInformationFactory.async(AsyncTranslationRepository.from(remoteCatalog, executor));
+        bulkFactory = new NewMyCompanyHandBaggageInformationFactory(bulkRemoteCatalog);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public HandBaggageInformation blocking() {
+        return blockingFactory.from(InMemoryTranslationRepository.RENDER_LANGUAGE);
+    }
+
+    @Benchmark
+    public HandBaggageInformation async() {
+        return asyncFactory.fromAsync(InMemoryTranslationRepository.RENDER_LANGUAGE).join();
+    }
+
+    @Benchmark
+    public HandBaggageInformation bulk() {
+        return bulkFactory.from(InMemoryTranslationRepository.RENDER_LANGUAGE);
+    }
+
+    private void roundTrip() {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    }
+}
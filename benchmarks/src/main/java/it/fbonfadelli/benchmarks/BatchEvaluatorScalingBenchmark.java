@@ -0,0 +1,68 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.batch.HandBaggageBatchEvaluator;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class BatchEvaluatorScalingBenchmark {
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int threads;
+
+    @Param({"100000"})
+    public int orders;
+
+    private HandBaggageBatchEvaluator evaluator;
+    private List<Order> batch;
+
+    @Setup
+    public void setUp() {
+        TranslationRepository translationRepository = InMemoryTranslationRepository.withHandBaggageTranslations();
+        HandBaggageInformationFactory handBaggageInformationFactory = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.make(
+                        NewMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository),
+                        OldMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository)),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        evaluator = new HandBaggageBatchEvaluator(handBaggageInformationFactory, InMemoryTranslationRepository.RENDER_LANGUAGE, threads);
+        batch = RandomOrders.generate(orders, 42L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        evaluator.close();
+    }
+
+    @Benchmark
+    public List<Map<Integer, HandBaggageInformation>> evaluate() {
+        return evaluator.evaluate(batch);
+    }
+}
@@ -0,0 +1,77 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.translation.CachingTranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CachingTranslationRepositoryBenchmark {
+    private static final String[] LANGUAGES = {"en", "it", "es", "fr", "de", "pt", "nl", "pl"};
+
+    @Param({"1000", "100000"})
+    public int keys;
+
+    @Param({"10000"})
+    public int maximumSize;
+
+    private CachingTranslationRepository repository;
+    private String[] translationKeys;
+
+    @Setup
+    public void setUp() {
+        InMemoryTranslationRepository catalog = new InMemoryTranslationRepository();
+        translationKeys = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            translationKeys[i] = "customer_area.key_" + i;
+            for (String language : LANGUAGES) {
+                catalog.add(translationKeys[i], language, translationKeys[i] + "@" + language);
+            }
+        }
+
+        repository = CachingTranslationRepository.builder(catalog)
+                .withMaximumSize(maximumSize)
+                .withConcurrencyLevel(64)
+                .build();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String retrieveWithOneThread() {
+        return retrieveARandomTranslation();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String retrieveWithFourThreads() {
+        return retrieveARandomTranslation();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String retrieveWithAllTheCores() {
+        return retrieveARandomTranslation();
+    }
+
+    private String retrieveARandomTranslation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return repository.retrieve(translationKeys[random.nextInt(translationKeys.length)], LANGUAGES[random.nextInt(LANGUAGES.length)]);
+    }
+}
@@ -0,0 +1,67 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.CarrierRuleIndex;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
+import it.fbonfadelli.hand_baggage.HandBaggagePolicySelector;
+import it.fbonfadelli.hand_baggage.PolicyChain;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.FlightSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CarrierRuleIndexBenchmark {
+    private static final long A_WEEK = TimeUnit.DAYS.toSeconds(7);
+
+    public enum Engine {CHAIN, INDEX}
+
+    @Param({"2", "20", "200", "2000"})
+    public int versions;
+
+    @Param
+    public Engine engine;
+
+    private HandBaggagePolicySelector selector;
+    private Flight flight;
+
+    @Setup
+    public void setUp() {
+        flight = OrderScenario.MY_COMPANY_ROUND_TRIP_BEFORE_THE_CUTOFF.order().findFlight(OrderScenario.MY_COMPANY_ROUND_TRIP_BEFORE_THE_CUTOFF.flightId());
+
+        NewMyCompanyHandBaggageInformationFactory provider =
+                new NewMyCompanyHandBaggageInformationFactory(InMemoryTranslationRepository.withHandBaggageTranslations());
+        long firstVersion = flight.getSummary().getLatestDeparture() - (versions / 2) * A_WEEK;
+        CarrierRuleIndex.Builder builder = CarrierRuleIndex.builder();
+        for (int version = 0; version < versions; version++) {
+            builder.add(FlightSummary.MY_COMPANY_AIRLINE_ID, firstVersion + version * A_WEEK - 1, provider);
+        }
+        CarrierRuleIndex index = builder.build();
+
+        selector = engine == Engine.CHAIN
+                ? new PolicyChain(new ArrayList<HandBaggageInformationPolicy>(index.rules()))
+                : index;
+    }
+
+    @Benchmark
+    public HandBaggageInformationPolicy select() {
+        return selector.select(flight);
+    }
+}
@@ -0,0 +1,87 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.CarrierRuleIndex;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
+import it.fbonfadelli.hand_baggage.HandBaggagePolicySelector;
+import it.fbonfadelli.hand_baggage.PolicyChain;
+import it.fbonfadelli.hand_baggage.policy.CarrierRulesConfiguration;
+import it.fbonfadelli.model.Flight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static it.fbonfadelli.FlightBuilder.aFlight;
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CarrierRulesBenchmark {
+    private static final int FLIGHTS = 1024;
+    private static final LocalDateTime FIRST_OF_NOVEMBER = LocalDateTime.of(2018, 11, 1, 0, 0, 0);
+
+    public enum Engine {CHAIN, INDEX}
+
+    @Param({"10", "100", "1000"})
+    public int carriers;
+
+    @Param
+    public Engine engine;
+
+    private HandBaggagePolicySelector selector;
+    private Flight[] flights;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder configuration = new StringBuilder();
+        for (int carrier = 0; carrier < carriers; carrier++) {
+            configuration.append("CARRIER_").append(carrier).append(",*,old,carrier_").append(carrier).append('\n');
+            configuration.append("CARRIER_").append(carrier).append(",2018-11-01T00:00:00Z,new,carrier_").append(carrier).append('\n');
+        }
+        CarrierRuleIndex index = CarrierRulesConfiguration.load(new StringReader(configuration.toString()), InMemoryTranslationRepository.withHandBaggageTranslations());
+
+        selector = engine == Engine.CHAIN
+                ? new PolicyChain(new ArrayList<HandBaggageInformationPolicy>(index.rules()))
+                : index;
+
+        Random random = new Random(20181101L);
+        flights = new Flight[FLIGHTS];
+        for (int flight = 0; flight < FLIGHTS; flight++) {
+            String airlineId = random.nextInt(4) == 0 ? "NOT_CONFIGURED" : "CARRIER_" + random.nextInt(carriers);
+            flights[flight] = aFlight().withFlightId(flight)
+                    .addLeg(aLeg().withHops(aHop()
+                            .withAirlineId(airlineId)
+                            .withDepartureTime(FIRST_OF_NOVEMBER.plusHours(random.nextInt(24 * 60) - 24 * 30))
+                            .build()).build())
+                    .build();
+            flights[flight].getSummary();
+        }
+    }
+
+    @Benchmark
+    public HandBaggageInformationPolicy select() {
+        Flight flight = flights[next];
+        next = (next + 1) & (FLIGHTS - 1);
+        return selector.select(flight);
+    }
+}
@@ -0,0 +1,58 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
+import it.fbonfadelli.hand_baggage.PolicyChain;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FlightEvaluationBenchmark {
+    private static final long FIRST_OF_NOVEMBER = LocalDateTime.of(2018, 11, 1, 0, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @Param({"NOT_MY_COMPANY_ROUND_TRIP", "MY_COMPANY_ROUND_TRIP_BEFORE_THE_CUTOFF", "MY_COMPANY_ROUND_TRIP_RETURN_AFTER_THE_CUTOFF"})
+    public OrderScenario scenario;
+
+    private PolicyChain policyChain;
+    private Flight flight;
+
+    @Setup
+    public void setUp() {
+        policyChain = new PolicyChain(HandBaggagePoliciesFactory.make(InMemoryTranslationRepository.withHandBaggageTranslations()));
+        flight = scenario.order().findFlight(scenario.flightId());
+    }
+
+    @Benchmark
+    public boolean isMyCompany() {
+        return flight.isMyCompany();
+    }
+
+    @Benchmark
+    public boolean hasAtLeastOneDepartureAfter() {
+        return flight.hasAtLeastOneDepartureAfter(FIRST_OF_NOVEMBER);
+    }
+
+    @Benchmark
+    public HandBaggageInformationPolicy selectPolicy() {
+        return policyChain.select(flight);
+    }
+}
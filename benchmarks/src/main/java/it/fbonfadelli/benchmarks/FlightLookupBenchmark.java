@@ -0,0 +1,59 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static it.fbonfadelli.OrderBuilder.anOrder;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FlightLookupBenchmark {
+
+    @Param({"1", "10", "1000"})
+    public int flights;
+
+    private Order order;
+    private int nextFlight;
+
+    @Setup
+    public void setUp() {
+        Flight[] orderFlights = new Flight[flights];
+        for (int i = 0; i < flights; i++) {
+            orderFlights[i] = OrderScenario.flight(i + 1, OrderScenario.MY_COMPANY, OrderScenario.AFTER_THE_CUTOFF);
+        }
+        order = anOrder().withFlights(orderFlights).build();
+    }
+
+    @Benchmark
+    public Flight indexedLookup() {
+        return order.getFlight(nextFlightId());
+    }
+
+    @Benchmark
+    public Flight linearStreamScan() {
+        int flightId = nextFlightId();
+        return order.getFlights().stream().filter(flight -> flight.getFlightId() == flightId).findFirst().orElse(null);
+    }
+
+    private int nextFlightId() {
+        nextFlight = nextFlight == flights ? 1 : nextFlight + 1;
+        return nextFlight;
+    }
+}
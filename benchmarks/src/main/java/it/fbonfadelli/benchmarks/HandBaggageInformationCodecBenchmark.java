@@ -0,0 +1,73 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationCodec;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HandBaggageInformationCodecBenchmark {
+
+    @Param({"NOT_MY_COMPANY_ROUND_TRIP", "MY_COMPANY_ROUND_TRIP_BEFORE_THE_CUTOFF", "MY_COMPANY_ROUND_TRIP_RETURN_AFTER_THE_CUTOFF"})
+    public OrderScenario scenario;
+
+    private HandBaggageInformation handBaggageInformation;
+    private ByteBuffer buffer;
+    private ByteBuffer encoded;
+
+    @Setup
+    public void setUp() {
+        HandBaggageInformationFactory handBaggageInformationFactory = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.make(InMemoryTranslationRepository.withHandBaggageTranslations()),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        handBaggageInformation = handBaggageInformationFactory.from(scenario.order(), InMemoryTranslationRepository.RENDER_LANGUAGE, scenario.flightId());
+        buffer = ByteBuffer.allocate(HandBaggageInformationCodec.encodedSize(handBaggageInformation));
+        encoded = ByteBuffer.allocate(buffer.capacity());
+        HandBaggageInformationCodec.encode(handBaggageInformation, encoded);
+        encoded.flip();
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        buffer.clear();
+        HandBaggageInformationCodec.encode(handBaggageInformation, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public HandBaggageInformation decode() {
+        return HandBaggageInformationCodec.decode(encoded.duplicate());
+    }
+
+    @Benchmark
+    public byte[] toStringAsUtf8() {
+        return handBaggageInformation.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int encodedSize() {
+        return HandBaggageInformationCodec.encodedSize(handBaggageInformation);
+    }
+}
@@ -0,0 +1,77 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HandBaggageInformationFactoryBenchmark {
+
+    @Param
+    public OrderScenario scenario;
+
+    @Param({"false", "true"})
+    public boolean cachedPerLanguage;
+
+    private HandBaggageInformationFactory handBaggageInformationFactory;
+    private Order order;
+    private Integer flightId;
+
+    @Setup
+    public void setUp() {
+        TranslationRepository translationRepository = InMemoryTranslationRepository.withHandBaggageTranslations();
+        handBaggageInformationFactory = new HandBaggageInformationFactory(
+                cachedPerLanguage
+                        ? HandBaggagePoliciesFactory.make(
+                        NewMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository),
+                        OldMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository))
+                        : HandBaggagePoliciesFactory.make(translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        order = scenario.order();
+        flightId = scenario.flightId();
+    }
+
+    @Benchmark
+    public HandBaggageInformation from() {
+        return handBaggageInformationFactory.from(order, InMemoryTranslationRepository.RENDER_LANGUAGE, flightId);
+    }
+
+    @Benchmark
+    public void fromEachFlight(Blackhole blackhole) {
+        for (Flight flight : order.getFlights()) {
+            blackhole.consume(handBaggageInformationFactory.from(order, InMemoryTranslationRepository.RENDER_LANGUAGE, flight.getFlightId()));
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, HandBaggageInformation> fromAll() {
+        return handBaggageInformationFactory.fromAll(order, InMemoryTranslationRepository.RENDER_LANGUAGE);
+    }
+}
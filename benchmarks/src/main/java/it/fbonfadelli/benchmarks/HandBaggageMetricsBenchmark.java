@@ -0,0 +1,62 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.metrics.HandBaggageMetrics;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HandBaggageMetricsBenchmark {
+
+    @Param({"NOT_MY_COMPANY_ROUND_TRIP", "MY_COMPANY_ROUND_TRIP_RETURN_AFTER_THE_CUTOFF"})
+    public OrderScenario scenario;
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private HandBaggageInformationFactory handBaggageInformationFactory;
+    private Order order;
+    private Integer flightId;
+
+    @Setup
+    public void setUp() {
+        TranslationRepository translationRepository = InMemoryTranslationRepository.withHandBaggageTranslations();
+        handBaggageInformationFactory = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.makeCarrierRuleIndex(
+                        NewMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository),
+                        OldMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository)),
+                new NotMyCompanyHandBaggageInformationFactory(),
+                instrumented ? new HandBaggageMetrics() : null
+        );
+        order = scenario.order();
+        flightId = scenario.flightId();
+    }
+
+    @Benchmark
+    public HandBaggageInformation from() {
+        return handBaggageInformationFactory.from(order, InMemoryTranslationRepository.RENDER_LANGUAGE, flightId);
+    }
+}
@@ -0,0 +1,30 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.model.Airport;
+import it.fbonfadelli.model.Hop;
+import it.fbonfadelli.model.HopFlight;
+import it.fbonfadelli.model.PlaceTime;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDateTime;
+
+public class HopFootprint {
+    public static void main(String[] args) {
+        Airport airport = new Airport();
+        airport.setCode("MXP");
+        LocalDateTime departure = LocalDateTime.of(2018, 11, 1, 10, 30);
+
+        PlaceTime placeTime = new PlaceTime(airport, departure, "2018-11-01T09:30:00Z");
+        Hop hop = new Hop();
+        hop.setDeparture(placeTime);
+        hop.setArrival(new PlaceTime(airport, departure.plusHours(2), "2018-11-01T11:30:00Z"));
+        HopFlight hopFlight = new HopFlight();
+        hopFlight.setAirlineId("MY_COMPANY_AIRLINE_ID");
+        hop.setHopFlight(hopFlight);
+
+        System.out.println(ClassLayout.parseClass(PlaceTime.class).toPrintable());
+        System.out.printf("place time: %,d bytes%n", GraphLayout.parseInstance(placeTime).subtract(GraphLayout.parseInstance(airport)).totalSize());
+        System.out.printf("hop:        %,d bytes%n", GraphLayout.parseInstance(hop).subtract(GraphLayout.parseInstance(airport, hopFlight.getAirlineId())).totalSize());
+    }
+}
@@ -0,0 +1,36 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.translation.TranslationRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class InMemoryTranslationRepository implements TranslationRepository {
+    public static final String RENDER_LANGUAGE = "en";
+
+    private final Map<String, String> translations = new HashMap<>();
+
+    public static InMemoryTranslationRepository withHandBaggageTranslations() {
+        InMemoryTranslationRepository repository = new InMemoryTranslationRepository();
+        repository.add("customer_area.hand_baggage_policy.label.my_company_id", RENDER_LANGUAGE, "View hand luggage rules for MyCompany");
+        repository.add("customer_area.hand_baggage_policy.link.my_company_id", RENDER_LANGUAGE, "https://www.mycompany.com/hand-luggage");
+        repository.add("customer_area.new_hand_baggage_policy.label.my_company_id", RENDER_LANGUAGE, "Small carry-on bag included. For more information, please check the {{link}}.");
+        repository.add("customer_area.new_hand_baggage_policy.link.my_company_id", RENDER_LANGUAGE, "<a href=\"https://www.mycompany.com/new-hand-luggage\" target=\"_blank\" rel=\"noopener\">new hand luggage rules.</a>");
+        repository.add("customer_area.new_hand_baggage_policy.alert.title.my_company_id", RENDER_LANGUAGE, "Update to MyCompany's baggage policy");
+        repository.add("customer_area.new_hand_baggage_policy.alert.my_company_id", RENDER_LANGUAGE, "We strongly recommend that you check the {{link}}.");
+        return repository;
+    }
+
+    public void add(String key, String language, String translation) {
+        translations.put(key(key, language), translation);
+    }
+
+    @Override
+    public String retrieve(String key, String language) {
+        return translations.get(key(key, language));
+    }
+
+    private static String key(String key, String language) {
+        return language + ":" + key;
+    }
+}
@@ -0,0 +1,69 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.batch.OrderBatch;
+import it.fbonfadelli.hand_baggage.batch.OrderBatchEvaluator;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class OrderBatchBenchmark {
+
+    @Param({"10000", "100000"})
+    public int orders;
+
+    private HandBaggageInformationFactory handBaggageInformationFactory;
+    private OrderBatchEvaluator orderBatchEvaluator;
+    private List<Order> objectGraph;
+    private OrderBatch batch;
+
+    @Setup
+    public void setUp() {
+        TranslationRepository translationRepository = InMemoryTranslationRepository.withHandBaggageTranslations();
+        handBaggageInformationFactory = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.make(translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        orderBatchEvaluator = new OrderBatchEvaluator(
+                HandBaggagePoliciesFactory.makeDecisionTable(translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        objectGraph = RandomOrders.generate(orders, 42L);
+        batch = OrderBatch.from(objectGraph);
+    }
+
+    @Benchmark
+    public void objectGraph(Blackhole blackhole) {
+        for (Order order : objectGraph) {
+            blackhole.consume(handBaggageInformationFactory.fromAll(order, InMemoryTranslationRepository.RENDER_LANGUAGE));
+        }
+    }
+
+    @Benchmark
+    public HandBaggageInformation[] columnar() {
+        return orderBatchEvaluator.evaluate(batch, InMemoryTranslationRepository.RENDER_LANGUAGE);
+    }
+}
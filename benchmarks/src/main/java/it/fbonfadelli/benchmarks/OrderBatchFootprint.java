@@ -0,0 +1,22 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.batch.OrderBatch;
+import it.fbonfadelli.model.Order;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.List;
+
+public class OrderBatchFootprint {
+    public static void main(String[] args) {
+        int orders = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<Order> objectGraph = RandomOrders.generate(orders, 42L);
+        OrderBatch batch = OrderBatch.from(objectGraph);
+
+        long objectGraphBytes = GraphLayout.parseInstance(objectGraph).totalSize();
+        long batchBytes = GraphLayout.parseInstance(batch).totalSize();
+
+        System.out.printf("%d orders, %d flights%n", orders, batch.flightCount());
+        System.out.printf("object graph: %,d bytes (%.1f bytes per order)%n", objectGraphBytes, (double) objectGraphBytes / orders);
+        System.out.printf("order batch:  %,d bytes (%.1f bytes per order)%n", batchBytes, (double) batchBytes / orders);
+    }
+}
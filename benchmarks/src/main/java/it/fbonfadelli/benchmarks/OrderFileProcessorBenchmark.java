@@ -0,0 +1,109 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.ingestion.HandBaggageOrderFileProcessor;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx64m"})
+@State(Scope.Benchmark)
+public class OrderFileProcessorBenchmark {
+    private static final String[] AIRLINE_IDS = {"MY_COMPANY_AIRLINE_ID", "U2", "AZ", "FR"};
+    private static final LocalDateTime FIRST_OF_NOVEMBER = LocalDateTime.of(2018, 11, 1, 0, 0, 0);
+
+    @Param({"1000000"})
+    public int orders;
+
+    private HandBaggageOrderFileProcessor processor;
+    private Path ordersFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        TranslationRepository translationRepository = InMemoryTranslationRepository.withHandBaggageTranslations();
+        processor = new HandBaggageOrderFileProcessor(
+                new HandBaggageInformationFactory(
+                        HandBaggagePoliciesFactory.make(
+                                NewMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository),
+                                OldMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository)),
+                        new NotMyCompanyHandBaggageInformationFactory()
+                ),
+                InMemoryTranslationRepository.RENDER_LANGUAGE
+        );
+
+        ordersFile = Files.createTempFile("orders", ".txt");
+        Random random = new Random(42L);
+        try (BufferedWriter writer = Files.newBufferedWriter(ordersFile, StandardCharsets.UTF_8)) {
+            for (int order = 0; order < orders; order++) {
+                writer.write(randomOrderLine(random));
+                writer.write('\n');
+            }
+        }
+        System.out.printf("%n%,d orders, %,d bytes%n", orders, Files.size(ordersFile));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(ordersFile);
+    }
+
+    @Benchmark
+    public long process() throws IOException {
+        return processor.process(Files.newBufferedReader(ordersFile, StandardCharsets.UTF_8), (lineNumber, flightId, handBaggageInformation) -> {
+        });
+    }
+
+    private static String randomOrderLine(Random random) {
+        StringBuilder line = new StringBuilder();
+        int flights = 1 + random.nextInt(2);
+        for (int flight = 1; flight <= flights; flight++) {
+            if (flight > 1) {
+                line.append('|');
+            }
+            line.append(flight).append(':');
+            int legs = 1 + random.nextInt(2);
+            for (int leg = 0; leg < legs; leg++) {
+                if (leg > 0) {
+                    line.append(';');
+                }
+                int hops = 1 + random.nextInt(2);
+                for (int hop = 0; hop < hops; hop++) {
+                    if (hop > 0) {
+                        line.append(',');
+                    }
+                    line.append(AIRLINE_IDS[random.nextInt(AIRLINE_IDS.length)])
+                            .append('@')
+                            .append(FIRST_OF_NOVEMBER.plusHours(random.nextInt(24 * 60) - 24 * 30));
+                }
+            }
+        }
+        return line.toString();
+    }
+}
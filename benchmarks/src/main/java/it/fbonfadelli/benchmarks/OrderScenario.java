@@ -0,0 +1,94 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.FlightBuilder;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+
+import java.time.LocalDateTime;
+
+import static it.fbonfadelli.FlightBuilder.aFlight;
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+import static it.fbonfadelli.OrderBuilder.anOrder;
+
+public enum OrderScenario {
+    NOT_MY_COMPANY_ONE_WAY(1) {
+        @Override
+        Order order() {
+            return anOrder().withFlights(flight(1, NOT_MY_COMPANY, AFTER_THE_CUTOFF)).build();
+        }
+    },
+    NOT_MY_COMPANY_ROUND_TRIP(1) {
+        @Override
+        Order order() {
+            return anOrder().withFlights(flight(1, NOT_MY_COMPANY, BEFORE_THE_CUTOFF, AFTER_THE_CUTOFF)).build();
+        }
+    },
+    MY_COMPANY_ONE_WAY_BEFORE_THE_CUTOFF(1) {
+        @Override
+        Order order() {
+            return anOrder().withFlights(flight(1, MY_COMPANY, BEFORE_THE_CUTOFF)).build();
+        }
+    },
+    MY_COMPANY_ONE_WAY_AFTER_THE_CUTOFF(1) {
+        @Override
+        Order order() {
+            return anOrder().withFlights(flight(1, MY_COMPANY, AFTER_THE_CUTOFF)).build();
+        }
+    },
+    MY_COMPANY_ROUND_TRIP_BEFORE_THE_CUTOFF(1) {
+        @Override
+        Order order() {
+            return anOrder().withFlights(flight(1, MY_COMPANY, BEFORE_THE_CUTOFF, BEFORE_THE_CUTOFF.plusDays(7))).build();
+        }
+    },
+    MY_COMPANY_ROUND_TRIP_RETURN_AFTER_THE_CUTOFF(1) {
+        @Override
+        Order order() {
+            return anOrder().withFlights(flight(1, MY_COMPANY, BEFORE_THE_CUTOFF, AFTER_THE_CUTOFF)).build();
+        }
+    },
+    MY_COMPANY_DOUBLE_ONE_WAY_RETURN_AFTER_THE_CUTOFF(2) {
+        @Override
+        Order order() {
+            return anOrder().withFlights(
+                    flight(1, MY_COMPANY, BEFORE_THE_CUTOFF),
+                    flight(2, MY_COMPANY, AFTER_THE_CUTOFF)
+            ).build();
+        }
+    },
+    MIXED_DOUBLE_ONE_WAY_FOREIGN_RETURN(2) {
+        @Override
+        Order order() {
+            return anOrder().withFlights(
+                    flight(1, MY_COMPANY, AFTER_THE_CUTOFF),
+                    flight(2, NOT_MY_COMPANY, AFTER_THE_CUTOFF.plusDays(7))
+            ).build();
+        }
+    };
+
+    public static final String MY_COMPANY = "MY_COMPANY_AIRLINE_ID";
+    public static final String NOT_MY_COMPANY = "U2";
+    public static final LocalDateTime BEFORE_THE_CUTOFF = LocalDateTime.of(2018, 10, 8, 10, 0, 0);
+    public static final LocalDateTime AFTER_THE_CUTOFF = LocalDateTime.of(2018, 11, 8, 10, 0, 0);
+
+    private final int flightId;
+
+    OrderScenario(int flightId) {
+        this.flightId = flightId;
+    }
+
+    abstract Order order();
+
+    public int flightId() {
+        return flightId;
+    }
+
+    public static Flight flight(int flightId, String airlineId, LocalDateTime... legDepartures) {
+        FlightBuilder flight = aFlight().withFlightId(flightId).withAirline(airlineId);
+        for (LocalDateTime legDeparture : legDepartures) {
+            flight.addLeg(aLeg().withHops(aHop().withAirlineId(airlineId).withDepartureTime(legDeparture).build()).build());
+        }
+        return flight.build();
+    }
+}
@@ -0,0 +1,75 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.hand_baggage.DecisionTable;
+import it.fbonfadelli.hand_baggage.FeatureBasedPolicy;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
+import it.fbonfadelli.hand_baggage.HandBaggagePolicySelector;
+import it.fbonfadelli.hand_baggage.PolicyChain;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the chain and the decision table while the rule list grows by repeating the two My-Company policies. A
+ * decision table needs one cutoff shared by all its rules, so it cannot hold distinct rules with their own cutoffs:
+ * past the first two rules the table stays the same, and only the chain has more work to do. This measures the cost
+ * of a longer list, not of more distinct rules, and so departs from a benchmark over hundreds of distinct rules.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PolicySelectionBenchmark {
+
+    public enum Engine {CHAIN, DECISION_TABLE}
+
+    @Param({"2", "20", "200", "1000"})
+    public int rules;
+
+    @Param
+    public Engine engine;
+
+    @Param({"NOT_MY_COMPANY_ROUND_TRIP", "MY_COMPANY_ROUND_TRIP_BEFORE_THE_CUTOFF"})
+    public OrderScenario scenario;
+
+    private HandBaggagePolicySelector selector;
+    private Flight flight;
+
+    @Setup
+    public void setUp() {
+        TranslationRepository translationRepository = InMemoryTranslationRepository.withHandBaggageTranslations();
+        List<FeatureBasedPolicy> policies = new ArrayList<>();
+        while (policies.size() < rules) {
+            for (HandBaggageInformationPolicy policy : HandBaggagePoliciesFactory.make(translationRepository)) {
+                policies.add((FeatureBasedPolicy) policy);
+            }
+        }
+
+        selector = engine == Engine.CHAIN
+                ? new PolicyChain(new ArrayList<HandBaggageInformationPolicy>(policies))
+                : DecisionTable.compile(policies);
+        flight = scenario.order().findFlight(scenario.flightId());
+    }
+
+    @Benchmark
+    public HandBaggageInformationPolicy select() {
+        return selector.select(flight);
+    }
+}
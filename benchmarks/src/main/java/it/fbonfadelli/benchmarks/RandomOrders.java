@@ -0,0 +1,23 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.model.Order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static it.fbonfadelli.OrderBuilder.anOrder;
+
+public class RandomOrders {
+    private RandomOrders() {
+    }
+
+    public static List<Order> generate(int orders, long seed) {
+        RandomFlights randomFlights = new RandomFlights(seed);
+        List<Order> generated = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            generated.add(anOrder().withFlights(randomFlights.someFlights(2, 2)).build());
+        }
+        return generated;
+    }
+}
@@ -0,0 +1,46 @@
+package it.fbonfadelli.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SyntheticCatalog {
+    static final String[] LANGUAGES = {"en", "it", "fr", "de", "es"};
+
+    private SyntheticCatalog() {
+    }
+
+    static String key(int i) {
+        return "customer_area.section_" + (i % 97) + ".label.key_" + i;
+    }
+
+    static String language(int i) {
+        return LANGUAGES[i % LANGUAGES.length];
+    }
+
+    static String value(int i) {
+        return "Translation number " + i + " with a {{link}} and some more text to look like a real label";
+    }
+
+    static Path writeCsv(int translations) throws IOException {
+        Path csv = Files.createTempFile("translations", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < translations; i++) {
+                writer.write(language(i) + "," + key(i) + "," + value(i));
+                writer.write('\n');
+            }
+        }
+        return csv;
+    }
+
+    static InMemoryTranslationRepository loadInMemory(Path csv) throws IOException {
+        InMemoryTranslationRepository repository = new InMemoryTranslationRepository();
+        for (String line : Files.readAllLines(csv, StandardCharsets.UTF_8)) {
+            String[] columns = line.split(",", 3);
+            repository.add(columns[1], columns[0], columns[2]);
+        }
+        return repository;
+    }
+}
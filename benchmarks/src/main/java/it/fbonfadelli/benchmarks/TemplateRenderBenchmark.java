@@ -0,0 +1,61 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.translation.template.Template;
+import it.fbonfadelli.translation.template.TemplateCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateRenderBenchmark {
+    private static final String LABEL_KEY = "customer_area.new_hand_baggage_policy.label.my_company_id";
+    private static final String LINK_KEY = "customer_area.new_hand_baggage_policy.link.my_company_id";
+    private static final String LINK = "link";
+    private static final Template ANCHOR = Template.compile("<a target=\"_blank\" href=\"{{link}}\">{{label}}</a>");
+
+    private final TemplateCache templateCache = new TemplateCache();
+
+    private String label;
+    private String link;
+
+    @Setup
+    public void setUp() {
+        InMemoryTranslationRepository translations = InMemoryTranslationRepository.withHandBaggageTranslations();
+        label = translations.retrieve(LABEL_KEY, InMemoryTranslationRepository.RENDER_LANGUAGE);
+        link = translations.retrieve(LINK_KEY, InMemoryTranslationRepository.RENDER_LANGUAGE);
+    }
+
+    @Benchmark
+    public String stringReplace() {
+        return label.replace("{{link}}", link);
+    }
+
+    @Benchmark
+    public String cachedTemplate() {
+        return templateCache.get(LABEL_KEY, InMemoryTranslationRepository.RENDER_LANGUAGE, label).render(LINK, link);
+    }
+
+    @Benchmark
+    public String anchorConcatenation() {
+        return "<a target=\"_blank\" href=\"" + link + "\">" + label + "</a>";
+    }
+
+    @Benchmark
+    public String anchorTemplate() {
+        return ANCHOR.render(placeholder -> LINK.equals(placeholder) ? link : label);
+    }
+}
@@ -0,0 +1,95 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.translation.TranslationRepository;
+import it.fbonfadelli.translation.catalog.MappedTranslationCatalog;
+import it.fbonfadelli.translation.catalog.TranslationCatalogBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class TranslationCatalogBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    @Param({"10000", "1000000"})
+    public int translations;
+
+    private Path csv;
+    private Path catalogFile;
+    private TranslationRepository hashMap;
+    private TranslationRepository catalog;
+    private String[] keys;
+    private String[] languages;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        csv = SyntheticCatalog.writeCsv(translations);
+        catalogFile = Files.createTempFile("translations", ".catalog");
+        new TranslationCatalogBuilder().addCsv(csv).writeTo(catalogFile);
+
+        hashMap = SyntheticCatalog.loadInMemory(csv);
+        catalog = MappedTranslationCatalog.open(catalogFile);
+
+        keys = new String[LOOKUPS];
+        languages = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int translation = (int) ((i * 2654435761L) % translations);
+            keys[i] = SyntheticCatalog.key(translation);
+            languages[i] = SyntheticCatalog.language(translation);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csv);
+        Files.deleteIfExists(catalogFile);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TranslationRepository startupHashMap() throws IOException {
+        return SyntheticCatalog.loadInMemory(csv);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TranslationRepository startupMapped() throws IOException {
+        return MappedTranslationCatalog.open(catalogFile);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String lookupHashMap() {
+        int i = next++ & (LOOKUPS - 1);
+        return hashMap.retrieve(keys[i], languages[i]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String lookupMapped() {
+        int i = next++ & (LOOKUPS - 1);
+        return catalog.retrieve(keys[i], languages[i]);
+    }
+}
@@ -0,0 +1,30 @@
+package it.fbonfadelli.benchmarks;
+
+import it.fbonfadelli.translation.catalog.MappedTranslationCatalog;
+import it.fbonfadelli.translation.catalog.TranslationCatalogBuilder;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TranslationCatalogFootprint {
+    public static void main(String[] args) throws IOException {
+        int translations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path csv = SyntheticCatalog.writeCsv(translations);
+        Path catalogFile = Files.createTempFile("translations", ".catalog");
+        try {
+            new TranslationCatalogBuilder().addCsv(csv).writeTo(catalogFile);
+
+            long hashMapBytes = GraphLayout.parseInstance(SyntheticCatalog.loadInMemory(csv)).totalSize();
+            long catalogHeapBytes = GraphLayout.parseInstance(MappedTranslationCatalog.open(catalogFile)).totalSize();
+
+            System.out.printf("%,d translations, csv %,d bytes%n", translations, Files.size(csv));
+            System.out.printf("hash map:       %,d heap bytes%n", hashMapBytes);
+            System.out.printf("mapped catalog: %,d heap bytes + %,d mapped bytes%n", catalogHeapBytes, Files.size(catalogFile));
+        } finally {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(catalogFile);
+        }
+    }
+}
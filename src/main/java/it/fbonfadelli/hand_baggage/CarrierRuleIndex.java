@@ -0,0 +1,221 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.AirlineRegistry;
+import it.fbonfadelli.model.CarrierSet;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.FlightSummary;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Maps (carrier, validity interval) to the provider of the hand baggage information in force. A rule is in force for a
+ * flight whose latest departure is strictly after its {@code effectiveAfter} and not after the next rule of the same
+ * carrier. Each carrier keeps its boundaries in a sorted {@code long[]}, so a lookup is a binary search whatever the
+ * number of historical versions. When a flight has more carriers with a rule in force, the carrier added first wins.
+ * Immutable and thread-safe once built.
+ */
+public class CarrierRuleIndex implements IndexedPolicySelector {
+    public static final long ALWAYS = Long.MIN_VALUE;
+
+    private final CarrierRules[] rulesByAirlineIndex;
+    private final List<Rule> rules;
+
+    private CarrierRuleIndex(CarrierRules[] rulesByAirlineIndex, List<Rule> rules) {
+        this.rulesByAirlineIndex = rulesByAirlineIndex;
+        this.rules = rules;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public HandBaggageInformationPolicy select(Flight flight) {
+        return ruleInForce(flight);
+    }
+
+    @Override
+    public int selectPosition(Flight flight) {
+        Rule rule = ruleInForce(flight);
+        return rule == null ? NONE : rule.position;
+    }
+
+    @Override
+    public List<HandBaggageInformationPolicy> policies() {
+        return Collections.unmodifiableList(rules);
+    }
+
+    private Rule ruleInForce(Flight flight) {
+        FlightSummary summary = flight.getSummary();
+        CarrierSet carriers = summary.getCarriers();
+        long latestDeparture = summary.getLatestDeparture();
+
+        CarrierRules selected = null;
+        Rule rule = null;
+        for (int airlineIndex = carriers.nextAirlineIndex(0);
+             airlineIndex >= 0 && airlineIndex < rulesByAirlineIndex.length;
+             airlineIndex = carriers.nextAirlineIndex(airlineIndex + 1)) {
+            CarrierRules carrierRules = rulesByAirlineIndex[airlineIndex];
+            if (carrierRules == null || (selected != null && selected.priority < carrierRules.priority)) {
+                continue;
+            }
+            Rule inForce = carrierRules.inForceAt(latestDeparture);
+            if (inForce != null) {
+                selected = carrierRules;
+                rule = inForce;
+            }
+        }
+        return rule;
+    }
+
+    public List<Rule> rules() {
+        return rules;
+    }
+
+    public static class Rule implements HandBaggageInformationPolicy {
+        private final String airlineId;
+        private final int airlineIndex;
+        private final long effectiveAfter;
+        private final long effectiveUntil;
+        private final HandBaggageInformationProvider provider;
+        private final int position;
+
+        private Rule(String airlineId, int airlineIndex, long effectiveAfter, long effectiveUntil,
+                     HandBaggageInformationProvider provider, int position) {
+            this.airlineId = airlineId;
+            this.airlineIndex = airlineIndex;
+            this.effectiveAfter = effectiveAfter;
+            this.effectiveUntil = effectiveUntil;
+            this.provider = provider;
+            this.position = position;
+        }
+
+        public String airlineId() {
+            return airlineId;
+        }
+
+        public long effectiveAfter() {
+            return effectiveAfter;
+        }
+
+        public HandBaggageInformationProvider provider() {
+            return provider;
+        }
+
+        @Override
+        public boolean canHandle(Flight flight) {
+            FlightSummary summary = flight.getSummary();
+            long latestDeparture = summary.getLatestDeparture();
+            return summary.getCarriers().contains(airlineIndex)
+                    && latestDeparture > effectiveAfter
+                    && latestDeparture <= effectiveUntil;
+        }
+
+        @Override
+        public HandBaggageInformation getFrom(String renderLanguage) {
+            return provider.from(renderLanguage);
+        }
+
+        @Override
+        public CompletableFuture<HandBaggageInformation> getFromAsync(String renderLanguage) {
+            return provider.fromAsync(renderLanguage);
+        }
+
+        @Override
+        public String name() {
+            return effectiveAfter == ALWAYS ? airlineId : airlineId + " after " + Instant.ofEpochSecond(effectiveAfter);
+        }
+
+        @Override
+        public String toString() {
+            return "Rule{" +
+                    "airlineId='" + airlineId + '\'' +
+                    ", effectiveAfter=" + (effectiveAfter == ALWAYS ? "always" : effectiveAfter) +
+                    '}';
+        }
+    }
+
+    public static class Builder {
+        private final Map<String, List<Rule>> rulesByAirlineId = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String airlineId, long effectiveAfter, HandBaggageInformationProvider provider) {
+            if (airlineId == null || provider == null) {
+                throw new IllegalArgumentException("A carrier rule needs an airline id and a provider");
+            }
+            rulesByAirlineId
+                    .computeIfAbsent(airlineId, it -> new ArrayList<>())
+                    .add(new Rule(airlineId, AirlineRegistry.UNKNOWN, effectiveAfter, Long.MAX_VALUE, provider, NONE));
+            return this;
+        }
+
+        public CarrierRuleIndex build() {
+            AirlineRegistry airlineRegistry = AirlineRegistry.getDefault();
+            List<CarrierRules> carriers = new ArrayList<>();
+            List<Rule> rules = new ArrayList<>();
+            int maxAirlineIndex = -1;
+
+            for (Map.Entry<String, List<Rule>> entry : rulesByAirlineId.entrySet()) {
+                int airlineIndex = airlineRegistry.register(entry.getKey());
+                CarrierRules carrierRules = CarrierRules.of(carriers.size(), airlineIndex, rules.size(), entry.getValue());
+                carriers.add(carrierRules);
+                rules.addAll(Arrays.asList(carrierRules.rules));
+                maxAirlineIndex = Math.max(maxAirlineIndex, airlineIndex);
+            }
+
+            CarrierRules[] rulesByAirlineIndex = new CarrierRules[maxAirlineIndex + 1];
+            for (CarrierRules carrierRules : carriers) {
+                rulesByAirlineIndex[carrierRules.airlineIndex] = carrierRules;
+            }
+            return new CarrierRuleIndex(rulesByAirlineIndex, Collections.unmodifiableList(rules));
+        }
+    }
+
+    private static class CarrierRules {
+        private final int priority;
+        private final int airlineIndex;
+        private final long[] effectiveAfter;
+        private final Rule[] rules;
+
+        private CarrierRules(int priority, int airlineIndex, long[] effectiveAfter, Rule[] rules) {
+            this.priority = priority;
+            this.airlineIndex = airlineIndex;
+            this.effectiveAfter = effectiveAfter;
+            this.rules = rules;
+        }
+
+        static CarrierRules of(int priority, int airlineIndex, int firstPosition, List<Rule> unsortedRules) {
+            List<Rule> sortedRules = new ArrayList<>(unsortedRules);
+            sortedRules.sort(Comparator.comparingLong(Rule::effectiveAfter));
+
+            long[] effectiveAfter = new long[sortedRules.size()];
+            Rule[] rules = new Rule[sortedRules.size()];
+            for (int position = 0; position < rules.length; position++) {
+                Rule rule = sortedRules.get(position);
+                if (position > 0 && rule.effectiveAfter == effectiveAfter[position - 1]) {
+                    throw new IllegalArgumentException("Two rules of " + rule.airlineId + " are effective after the same instant " + rule.effectiveAfter);
+                }
+                long effectiveUntil = position + 1 < rules.length ? sortedRules.get(position + 1).effectiveAfter : Long.MAX_VALUE;
+                effectiveAfter[position] = rule.effectiveAfter;
+                rules[position] = new Rule(rule.airlineId, airlineIndex, rule.effectiveAfter, effectiveUntil, rule.provider, firstPosition + position);
+            }
+            return new CarrierRules(priority, airlineIndex, effectiveAfter, rules);
+        }
+
+        Rule inForceAt(long departure) {
+            int position = Arrays.binarySearch(effectiveAfter, departure);
+            int lastBoundaryBefore = position >= 0 ? position - 1 : -position - 2;
+            return lastBoundaryBefore < 0 ? null : rules[lastBoundaryBefore];
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.Flight;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Selects a policy by looking up the {@link FlightFeatures} of a flight in a table of
+ * {@link FlightFeatures#COMBINATIONS} entries, each holding the first policy that handles that combination. All the
+ * policies share one cutoff, so the table does not grow with the number of rules: rules past the first one handling a
+ * combination are never selected, and rules with their own cutoffs or other features cannot be compiled. Those belong
+ * in a {@link CarrierRuleIndex} or a {@link PolicyChain}.
+ */
+public class DecisionTable implements IndexedPolicySelector {
+    private final long cutoff;
+    private final HandBaggageInformationPolicy[] policiesByFeatures;
+    private final int[] positionsByFeatures;
+    private final List<HandBaggageInformationPolicy> policies;
+
+    private DecisionTable(long cutoff, HandBaggageInformationPolicy[] policiesByFeatures, int[] positionsByFeatures,
+                          List<HandBaggageInformationPolicy> policies) {
+        this.cutoff = cutoff;
+        this.policiesByFeatures = policiesByFeatures;
+        this.positionsByFeatures = positionsByFeatures;
+        this.policies = policies;
+    }
+
+    public static DecisionTable compile(List<? extends FeatureBasedPolicy> policies) {
+        if (policies.isEmpty()) {
+            throw new IllegalArgumentException("A decision table needs at least one policy");
+        }
+
+        long cutoff = policies.get(0).cutoff();
+        HandBaggageInformationPolicy[] policiesByFeatures = new HandBaggageInformationPolicy[FlightFeatures.COMBINATIONS];
+        int[] positionsByFeatures = new int[FlightFeatures.COMBINATIONS];
+        Arrays.fill(positionsByFeatures, NONE);
+        for (int position = 0; position < policies.size(); position++) {
+            FeatureBasedPolicy policy = policies.get(position);
+            if (cutoff != policy.cutoff()) {
+                throw new IllegalArgumentException("All the policies of a decision table must share the same cutoff, found " + cutoff + " and " + policy.cutoff());
+            }
+            for (int features = 0; features < policiesByFeatures.length; features++) {
+                if (policiesByFeatures[features] == null && policy.canHandle(features)) {
+                    policiesByFeatures[features] = policy;
+                    positionsByFeatures[features] = position;
+                }
+            }
+        }
+
+        return new DecisionTable(cutoff, policiesByFeatures, positionsByFeatures,
+                Collections.unmodifiableList(new ArrayList<HandBaggageInformationPolicy>(policies)));
+    }
+
+    public long cutoff() {
+        return cutoff;
+    }
+
+    @Override
+    public HandBaggageInformationPolicy select(Flight flight) {
+        return select(FlightFeatures.of(flight, cutoff));
+    }
+
+    public HandBaggageInformationPolicy select(int flightFeatures) {
+        return policiesByFeatures[flightFeatures];
+    }
+
+    @Override
+    public int selectPosition(Flight flight) {
+        return positionsByFeatures[FlightFeatures.of(flight, cutoff)];
+    }
+
+    @Override
+    public List<HandBaggageInformationPolicy> policies() {
+        return policies;
+    }
+}
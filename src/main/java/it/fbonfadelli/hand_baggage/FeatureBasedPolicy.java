@@ -0,0 +1,10 @@
+package it.fbonfadelli.hand_baggage;
+
+public interface FeatureBasedPolicy extends HandBaggageInformationPolicy {
+    /**
+     * The cutoff as a UTC epoch second: a departure strictly after it counts as "after the cutoff".
+     */
+    long cutoff();
+
+    boolean canHandle(int flightFeatures);
+}
@@ -0,0 +1,48 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.FlightSummary;
+
+public class FlightFeatures {
+    public static final int MY_COMPANY = 1;
+    public static final int ONE_WAY = 1 << 1;
+    public static final int OUTBOUND_AFTER_CUTOFF = 1 << 2;
+    public static final int RETURN_AFTER_CUTOFF = 1 << 3;
+
+    public static final int COMBINATIONS = 1 << 4;
+
+    private FlightFeatures() {
+    }
+
+    public static int of(Flight flight, long cutoff) {
+        FlightSummary summary = flight.getSummary();
+        int features = 0;
+        if (summary.isMyCompany()) {
+            features |= MY_COMPANY;
+        }
+        if (summary.isOneWay()) {
+            features |= ONE_WAY;
+        } else if (summary.getLatestReturnDeparture() > cutoff) {
+            features |= RETURN_AFTER_CUTOFF;
+        }
+        if (summary.getOutboundDeparture() > cutoff) {
+            features |= OUTBOUND_AFTER_CUTOFF;
+        }
+        return features;
+    }
+
+    public static int of(boolean myCompany, boolean oneWay, boolean outboundAfterCutoff, boolean returnAfterCutoff) {
+        return (myCompany ? MY_COMPANY : 0)
+                | (oneWay ? ONE_WAY : 0)
+                | (outboundAfterCutoff ? OUTBOUND_AFTER_CUTOFF : 0)
+                | (returnAfterCutoff ? RETURN_AFTER_CUTOFF : 0);
+    }
+
+    public static boolean has(int features, int feature) {
+        return (features & feature) != 0;
+    }
+
+    public static boolean hasAtLeastOneDepartureAfterCutoff(int features) {
+        return (features & (OUTBOUND_AFTER_CUTOFF | RETURN_AFTER_CUTOFF)) != 0;
+    }
+}
@@ -0,0 +1,58 @@
+package it.fbonfadelli.hand_baggage;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Emitted by {@link HandBaggageInformationFactory#from}. Nothing is allocated while the event is disabled, and the
+ * fields are filled in only for events that will be committed. Lower the threshold, e.g. with
+ * {@code it.fbonfadelli.HandBaggageEvaluation#threshold=0 ms}, to record more than the stalls. Only loaded once
+ * {@link it.fbonfadelli.translation.JfrSupport#isAvailable()} holds.
+ */
+@Name(HandBaggageEvaluationEvent.NAME)
+@Label("Hand Baggage Evaluation")
+@Category("Hand Baggage")
+@Description("Selection of the hand baggage policy of a flight and rendering of its information")
+@Threshold("20 ms")
+@StackTrace(false)
+class HandBaggageEvaluationEvent extends Event {
+    static final String NAME = "it.fbonfadelli.HandBaggageEvaluation";
+    static final String FALLBACK = "fallback";
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(HandBaggageEvaluationEvent.class);
+
+    @Label("Policy")
+    String policy;
+
+    @Label("Flight Id")
+    int flightId;
+
+    @Label("Render Language")
+    String renderLanguage;
+
+    // Escape analysis cannot be relied on once a recording has instrumented the class, so check before allocating.
+    static HandBaggageEvaluationEvent beginIfEnabled() {
+        if (!EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        HandBaggageEvaluationEvent event = new HandBaggageEvaluationEvent();
+        event.begin();
+        return event;
+    }
+
+    void commit(HandBaggageInformationPolicy selectedPolicy, Integer flightId, String renderLanguage) {
+        end();
+        if (shouldCommit()) {
+            this.policy = selectedPolicy == null ? FALLBACK : selectedPolicy.name();
+            this.flightId = flightId == null ? -1 : flightId;
+            this.renderLanguage = renderLanguage;
+            commit();
+        }
+    }
+}
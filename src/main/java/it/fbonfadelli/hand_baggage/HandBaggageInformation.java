@@ -4,15 +4,17 @@ import it.fbonfadelli.model.HandBaggageAlert;
 
 import java.util.Objects;
 
-public class HandBaggageInformation {
+public final class HandBaggageInformation {
     public final HandBaggageAlert alert;
     public final boolean handBaggageAllowed;
     public final String handBaggagePolicy;
+    private final int hash;
 
     public HandBaggageInformation(HandBaggageAlert alert, boolean handBaggageAllowed, String handBaggagePolicy) {
         this.alert = alert;
         this.handBaggageAllowed = handBaggageAllowed;
         this.handBaggagePolicy = handBaggagePolicy;
+        this.hash = 31 * (31 * Objects.hashCode(alert) + Boolean.hashCode(handBaggageAllowed)) + Objects.hashCode(handBaggagePolicy);
     }
 
     @Override
@@ -29,13 +31,14 @@ public class HandBaggageInformation {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         HandBaggageInformation that = (HandBaggageInformation) o;
-        return handBaggageAllowed == that.handBaggageAllowed &&
+        return hash == that.hash &&
+                handBaggageAllowed == that.handBaggageAllowed &&
                 Objects.equals(alert, that.alert) &&
                 Objects.equals(handBaggagePolicy, that.handBaggagePolicy);
     }
 
     @Override
     public int hashCode() {
-        return 0;
+        return hash;
     }
 }
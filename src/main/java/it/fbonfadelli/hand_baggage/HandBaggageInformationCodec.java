@@ -0,0 +1,156 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.HandBaggageAlert;
+import it.fbonfadelli.translation.catalog.Utf8;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary form of a {@link HandBaggageInformation}:
+ * <pre>
+ * version:byte flags:byte [alert title] [alert message] [hand baggage policy]
+ * </pre>
+ * where the flags carry {@code handBaggageAllowed} and which of the strings are present, and each present string is
+ * its UTF-8 length as an unsigned varint followed by its {@link Utf8} bytes. Encoding writes straight into the caller's
+ * buffer and decoding reads heap buffers in place; both move the position past the result.
+ */
+public final class HandBaggageInformationCodec {
+    public static final byte VERSION = 1;
+
+    private static final int HAND_BAGGAGE_ALLOWED = 1;
+    private static final int ALERT = 1 << 1;
+    private static final int ALERT_TITLE = 1 << 2;
+    private static final int ALERT_MESSAGE = 1 << 3;
+    private static final int HAND_BAGGAGE_POLICY = 1 << 4;
+    private static final int ALL_FLAGS = (1 << 5) - 1;
+
+    private HandBaggageInformationCodec() {
+    }
+
+    public static int encodedSize(HandBaggageInformation handBaggageInformation) {
+        HandBaggageAlert alert = handBaggageInformation.alert;
+        int size = 2;
+        if (alert != null) {
+            size += encodedSize(alert.getTitle()) + encodedSize(alert.getMessage());
+        }
+        return size + encodedSize(handBaggageInformation.handBaggagePolicy);
+    }
+
+    /**
+     * @throws BufferOverflowException if fewer than {@link #encodedSize} bytes remain; the position is left unchanged
+     */
+    public static void encode(HandBaggageInformation handBaggageInformation, ByteBuffer buffer) {
+        HandBaggageAlert alert = handBaggageInformation.alert;
+        int flags = handBaggageInformation.handBaggageAllowed ? HAND_BAGGAGE_ALLOWED : 0;
+        if (alert != null) {
+            flags |= ALERT;
+            flags |= alert.getTitle() == null ? 0 : ALERT_TITLE;
+            flags |= alert.getMessage() == null ? 0 : ALERT_MESSAGE;
+        }
+        flags |= handBaggageInformation.handBaggagePolicy == null ? 0 : HAND_BAGGAGE_POLICY;
+
+        int start = buffer.position();
+        try {
+            buffer.put(VERSION);
+            buffer.put((byte) flags);
+            if (alert != null) {
+                encode(alert.getTitle(), buffer);
+                encode(alert.getMessage(), buffer);
+            }
+            encode(handBaggageInformation.handBaggagePolicy, buffer);
+        } catch (BufferOverflowException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not a hand baggage information of this version
+     * @throws java.nio.BufferUnderflowException if the bytes end before the hand baggage information does
+     */
+    public static HandBaggageInformation decode(ByteBuffer buffer) {
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported hand baggage information version " + version);
+        }
+        int flags = buffer.get() & 0xFF;
+        if ((flags & ~ALL_FLAGS) != 0 || ((flags & ALERT) == 0 && (flags & (ALERT_TITLE | ALERT_MESSAGE)) != 0)) {
+            throw new IllegalArgumentException("Invalid hand baggage information flags " + Integer.toBinaryString(flags));
+        }
+
+        HandBaggageAlert alert = null;
+        if ((flags & ALERT) != 0) {
+            String title = (flags & ALERT_TITLE) == 0 ? null : decodeString(buffer);
+            String message = (flags & ALERT_MESSAGE) == 0 ? null : decodeString(buffer);
+            alert = new HandBaggageAlert(title, message);
+        }
+        String handBaggagePolicy = (flags & HAND_BAGGAGE_POLICY) == 0 ? null : decodeString(buffer);
+        return new HandBaggageInformation(alert, (flags & HAND_BAGGAGE_ALLOWED) != 0, handBaggagePolicy);
+    }
+
+    private static int encodedSize(String s) {
+        if (s == null) {
+            return 0;
+        }
+        int length = Utf8.length(s);
+        return varintSize(length) + length;
+    }
+
+    // ASCII-only strings, most of the HTML we ship, take one scan and a bulk copy.
+    private static void encode(String s, ByteBuffer buffer) {
+        if (s == null) {
+            return;
+        }
+        boolean ascii = Utf8.isAscii(s);
+        int length = ascii ? s.length() : Utf8.length(s);
+        putVarint(length, buffer);
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        int position = buffer.position();
+        buffer.position(ascii ? Utf8.encodeAscii(s, buffer, position) : Utf8.encode(s, buffer, position));
+    }
+
+    private static String decodeString(ByteBuffer buffer) {
+        int length = getVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException("A string of " + length + " bytes does not fit the remaining " + buffer.remaining());
+        }
+
+        int position = buffer.position();
+        buffer.position(position + length);
+        return Utf8.decode(buffer, position, length);
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static void putVarint(int value, ByteBuffer buffer) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (0x80 | value & 0x7F));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid string length");
+    }
+}
@@ -1,34 +1,208 @@
 package it.fbonfadelli.hand_baggage;
 
 import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.metrics.HandBaggageMetrics;
 import it.fbonfadelli.model.Flight;
 import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.JfrSupport;
 
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Thread-safe: the policies are stateless and the factories behind them only share a
+ * {@link it.fbonfadelli.translation.TranslationRepository} and thread-safe per-language caches. An instance can be
+ * shared by any number of threads, as long as each {@link Order} is evaluated by one thread at a time.
+ * <p>
+ * The active selector is an immutable snapshot behind an atomic reference: {@link #reload} publishes a new one with a
+ * single swap, without locks on the evaluation path, and every call evaluates all its flights against the snapshot it
+ * read first.
+ * <p>
+ * With {@link HandBaggageMetrics} every policy selection and fallback is counted, and a sample of the synchronous
+ * evaluations is timed; asynchronous evaluations are counted only.
+ */
 public class HandBaggageInformationFactory {
 
-    private final List<HandBaggageInformationPolicy> handBaggageInformationPolicies;
+    private final AtomicReference<ActiveSelector> activeSelector;
     private final NotMyCompanyHandBaggageInformationFactory fallbackHandBaggageFactory;
+    private final HandBaggageMetrics metrics;
 
     public HandBaggageInformationFactory(List<HandBaggageInformationPolicy> handBaggageInformationPolicies,
                                          NotMyCompanyHandBaggageInformationFactory fallbackHandBaggageFactory) {
-        this.handBaggageInformationPolicies = handBaggageInformationPolicies;
+        this(snapshotOf(handBaggageInformationPolicies), fallbackHandBaggageFactory);
+    }
+
+    public HandBaggageInformationFactory(HandBaggagePolicySelector handBaggagePolicySelector,
+                                         NotMyCompanyHandBaggageInformationFactory fallbackHandBaggageFactory) {
+        this(handBaggagePolicySelector, fallbackHandBaggageFactory, null);
+    }
+
+    public HandBaggageInformationFactory(HandBaggagePolicySelector handBaggagePolicySelector,
+                                         NotMyCompanyHandBaggageInformationFactory fallbackHandBaggageFactory,
+                                         HandBaggageMetrics metrics) {
         this.fallbackHandBaggageFactory = fallbackHandBaggageFactory;
+        this.metrics = metrics;
+        this.activeSelector = new AtomicReference<>(activeSelector(handBaggagePolicySelector));
+    }
+
+    public HandBaggagePolicySelector reload(List<HandBaggageInformationPolicy> handBaggageInformationPolicies) {
+        return reload(snapshotOf(handBaggageInformationPolicies));
+    }
+
+    public HandBaggagePolicySelector reload(HandBaggagePolicySelector handBaggagePolicySelector) {
+        return activeSelector.getAndSet(activeSelector(handBaggagePolicySelector)).policySelector;
+    }
+
+    public HandBaggagePolicySelector policySelector() {
+        return activeSelector.get().policySelector;
     }
 
     public HandBaggageInformation from(Order order, String renderLanguage, Integer flightId) {
-        Flight flight = order.findFlight(flightId);
-        return handBaggageInformationFor(renderLanguage, flight);
+        HandBaggageEvaluationEvent event = JfrSupport.isAvailable() ? HandBaggageEvaluationEvent.beginIfEnabled() : null;
+        long start = startTimer();
+        Flight flight = order.getFlight(flightId);
+        ActiveSelector activeSelector = this.activeSelector.get();
+        HandBaggageInformationPolicy policy = activeSelector.select(flight);
+        HandBaggageInformation handBaggageInformation = policy == null ? fallbackHandBaggageFactory.make() : policy.getFrom(renderLanguage);
+        recordEvaluationLatency(start);
+        if (event != null) {
+            event.commit(policy, flightId, renderLanguage);
+        }
+        return handBaggageInformation;
+    }
+
+    public Map<Integer, HandBaggageInformation> fromAll(Order order, String renderLanguage) {
+        long start = startTimer();
+        ActiveSelector activeSelector = this.activeSelector.get();
+        Map<Integer, HandBaggageInformation> handBaggageInformationByFlightId = new LinkedHashMap<>();
+        Map<HandBaggageInformationPolicy, HandBaggageInformation> handBaggageInformationByPolicy = new IdentityHashMap<>();
+        HandBaggageInformation fallbackHandBaggageInformation = null;
+
+        for (Flight flight : order.getFlights()) {
+            HandBaggageInformationPolicy policy = activeSelector.select(flight);
+            HandBaggageInformation handBaggageInformation;
+            if (policy == null) {
+                if (fallbackHandBaggageInformation == null) {
+                    fallbackHandBaggageInformation = fallbackHandBaggageFactory.make();
+                }
+                handBaggageInformation = fallbackHandBaggageInformation;
+            } else {
+                handBaggageInformation = handBaggageInformationByPolicy.computeIfAbsent(policy, it -> it.getFrom(renderLanguage));
+            }
+            handBaggageInformationByFlightId.put(flight.getFlightId(), handBaggageInformation);
+        }
+
+        recordEvaluationLatency(start);
+        return handBaggageInformationByFlightId;
+    }
+
+    public CompletableFuture<HandBaggageInformation> fromAsync(Order order, String renderLanguage, Integer flightId) {
+        Flight flight = order.getFlight(flightId);
+        return handBaggageInformationAsyncFor(activeSelector.get(), renderLanguage, flight);
+    }
+
+    public CompletableFuture<Map<Integer, HandBaggageInformation>> fromAllAsync(Order order, String renderLanguage) {
+        ActiveSelector activeSelector = this.activeSelector.get();
+        Map<Integer, CompletableFuture<HandBaggageInformation>> handBaggageInformationByFlightId = new LinkedHashMap<>();
+        Map<HandBaggageInformationPolicy, CompletableFuture<HandBaggageInformation>> handBaggageInformationByPolicy = new IdentityHashMap<>();
+        CompletableFuture<HandBaggageInformation> fallbackHandBaggageInformation = null;
+
+        for (Flight flight : order.getFlights()) {
+            HandBaggageInformationPolicy policy = activeSelector.select(flight);
+            CompletableFuture<HandBaggageInformation> handBaggageInformation;
+            if (policy == null) {
+                if (fallbackHandBaggageInformation == null) {
+                    fallbackHandBaggageInformation = CompletableFuture.completedFuture(fallbackHandBaggageFactory.make());
+                }
+                handBaggageInformation = fallbackHandBaggageInformation;
+            } else {
+                handBaggageInformation = handBaggageInformationByPolicy.computeIfAbsent(policy, it -> it.getFromAsync(renderLanguage));
+            }
+            handBaggageInformationByFlightId.put(flight.getFlightId(), handBaggageInformation);
+        }
+
+        return CompletableFuture.allOf(handBaggageInformationByPolicy.values().toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<Integer, HandBaggageInformation> handBaggageInformation = new LinkedHashMap<>();
+            for (Map.Entry<Integer, CompletableFuture<HandBaggageInformation>> entry : handBaggageInformationByFlightId.entrySet()) {
+                handBaggageInformation.put(entry.getKey(), entry.getValue().join());
+            }
+            return handBaggageInformation;
+        });
+    }
+
+    private CompletableFuture<HandBaggageInformation> handBaggageInformationAsyncFor(ActiveSelector activeSelector,
+                                                                                     String renderLanguage, Flight flight) {
+        HandBaggageInformationPolicy policy = activeSelector.select(flight);
+        if (policy == null) {
+            return CompletableFuture.completedFuture(fallbackHandBaggageFactory.make());
+        }
+        return policy.getFromAsync(renderLanguage);
+    }
+
+    private long startTimer() {
+        return metrics == null ? HandBaggageMetrics.NOT_SAMPLED : metrics.startTimer();
+    }
+
+    private void recordEvaluationLatency(long start) {
+        if (metrics != null) {
+            metrics.recordEvaluationLatency(start);
+        }
+    }
+
+    private static HandBaggagePolicySelector snapshotOf(List<HandBaggageInformationPolicy> handBaggageInformationPolicies) {
+        return new PolicyChain(handBaggageInformationPolicies);
     }
 
-    private HandBaggageInformation handBaggageInformationFor(String renderLanguage, Flight flight) {
-        return handBaggageInformationPolicies
-                .stream()
-                .filter(policy -> policy.canHandle(flight))
-                .findFirst()
-                .map(policy -> policy.getFrom(renderLanguage))
-                .orElse(fallbackHandBaggageFactory.make());
+    private ActiveSelector activeSelector(HandBaggagePolicySelector handBaggagePolicySelector) {
+        if (handBaggagePolicySelector == null) {
+            throw new IllegalArgumentException("A hand baggage policy selector is required");
+        }
+        if (metrics == null) {
+            return new ActiveSelector(handBaggagePolicySelector, null, null, null);
+        }
+        if (handBaggagePolicySelector instanceof IndexedPolicySelector) {
+            IndexedPolicySelector indexedPolicySelector = (IndexedPolicySelector) handBaggagePolicySelector;
+            List<HandBaggageInformationPolicy> policies = indexedPolicySelector.policies();
+            return new ActiveSelector(handBaggagePolicySelector, indexedPolicySelector,
+                    policies.toArray(new HandBaggageInformationPolicy[0]), metrics.policyHits(policies));
+        }
+        return new ActiveSelector(handBaggagePolicySelector, null, null, metrics.policyHits());
     }
 
+    /**
+     * A selector with the hit counters of its policies. When the selector selects by position the hit is recorded by
+     * position too, so counting it costs an array load instead of a lookup.
+     */
+    private static final class ActiveSelector {
+        private final HandBaggagePolicySelector policySelector;
+        private final IndexedPolicySelector indexedPolicySelector;
+        private final HandBaggageInformationPolicy[] policies;
+        private final HandBaggageMetrics.PolicyHits policyHits;
+
+        private ActiveSelector(HandBaggagePolicySelector policySelector, IndexedPolicySelector indexedPolicySelector,
+                               HandBaggageInformationPolicy[] policies, HandBaggageMetrics.PolicyHits policyHits) {
+            this.policySelector = policySelector;
+            this.indexedPolicySelector = indexedPolicySelector;
+            this.policies = policies;
+            this.policyHits = policyHits;
+        }
+
+        private HandBaggageInformationPolicy select(Flight flight) {
+            if (policyHits == null) {
+                return policySelector.select(flight);
+            }
+            if (indexedPolicySelector == null) {
+                HandBaggageInformationPolicy policy = policySelector.select(flight);
+                policyHits.recordSelection(policy);
+                return policy;
+            }
+            int position = indexedPolicySelector.selectPosition(flight);
+            policyHits.recordSelection(position);
+            return position == IndexedPolicySelector.NONE ? null : policies[position];
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package it.fbonfadelli.hand_baggage;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizes equal {@link HandBaggageInformation}, so the results of many flights share one instance per distinct
+ * message and can be grouped by identity. Thread-safe. The pool keeps every distinct result it has seen, which are a
+ * handful per policy and language.
+ */
+public class HandBaggageInformationInterner {
+    private final ConcurrentMap<HandBaggageInformation, HandBaggageInformation> pool = new ConcurrentHashMap<>();
+
+    public HandBaggageInformation intern(HandBaggageInformation handBaggageInformation) {
+        if (handBaggageInformation == null) {
+            return null;
+        }
+        HandBaggageInformation interned = pool.get(handBaggageInformation);
+        if (interned != null) {
+            return interned;
+        }
+        interned = pool.putIfAbsent(handBaggageInformation, handBaggageInformation);
+        return interned == null ? handBaggageInformation : interned;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    public void clear() {
+        pool.clear();
+    }
+}
@@ -2,8 +2,22 @@ package it.fbonfadelli.hand_baggage;
 
 import it.fbonfadelli.model.Flight;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementations are shared across threads and must be stateless, or at least thread-safe.
+ */
 public interface HandBaggageInformationPolicy {
     boolean canHandle(Flight flight);
 
     HandBaggageInformation getFrom(String renderLanguage);
+
+    default CompletableFuture<HandBaggageInformation> getFromAsync(String renderLanguage) {
+        return CompletableFuture.completedFuture(getFrom(renderLanguage));
+    }
+
+    default String name() {
+        String simpleName = getClass().getSimpleName();
+        return simpleName.isEmpty() ? getClass().getName() : simpleName;
+    }
 }
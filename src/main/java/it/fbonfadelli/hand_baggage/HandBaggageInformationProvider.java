@@ -0,0 +1,15 @@
+package it.fbonfadelli.hand_baggage;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builds the hand baggage information of one rule, whatever the flight it is asked for. Implementations are shared
+ * across threads and must be thread-safe.
+ */
+public interface HandBaggageInformationProvider {
+    HandBaggageInformation from(String renderLanguage);
+
+    default CompletableFuture<HandBaggageInformation> fromAsync(String renderLanguage) {
+        return CompletableFuture.completedFuture(from(renderLanguage));
+    }
+}
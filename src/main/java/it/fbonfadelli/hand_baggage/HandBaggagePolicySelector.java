@@ -0,0 +1,7 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.Flight;
+
+public interface HandBaggagePolicySelector {
+    HandBaggageInformationPolicy select(Flight flight);
+}
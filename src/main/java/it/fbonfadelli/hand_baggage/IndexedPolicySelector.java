@@ -0,0 +1,20 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.Flight;
+
+import java.util.List;
+
+/**
+ * A selector over a fixed list of policies that can also answer with the position of the selected policy, so per-policy
+ * state can live in an array next to {@link #policies()} instead of being looked up by policy.
+ */
+public interface IndexedPolicySelector extends HandBaggagePolicySelector {
+    int NONE = -1;
+
+    List<HandBaggageInformationPolicy> policies();
+
+    /**
+     * @return the position in {@link #policies()} of the policy {@link #select} returns, or {@link #NONE}
+     */
+    int selectPosition(Flight flight);
+}
@@ -0,0 +1,42 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.Flight;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class PolicyChain implements IndexedPolicySelector {
+    private final HandBaggageInformationPolicy[] handBaggageInformationPolicies;
+    private final List<HandBaggageInformationPolicy> policies;
+
+    public PolicyChain(List<HandBaggageInformationPolicy> handBaggageInformationPolicies) {
+        this.handBaggageInformationPolicies = handBaggageInformationPolicies.toArray(new HandBaggageInformationPolicy[0]);
+        this.policies = Collections.unmodifiableList(Arrays.asList(this.handBaggageInformationPolicies));
+    }
+
+    @Override
+    public HandBaggageInformationPolicy select(Flight flight) {
+        for (HandBaggageInformationPolicy policy : handBaggageInformationPolicies) {
+            if (policy.canHandle(flight)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int selectPosition(Flight flight) {
+        for (int position = 0; position < handBaggageInformationPolicies.length; position++) {
+            if (handBaggageInformationPolicies[position].canHandle(flight)) {
+                return position;
+            }
+        }
+        return NONE;
+    }
+
+    @Override
+    public List<HandBaggageInformationPolicy> policies() {
+        return policies;
+    }
+}
@@ -0,0 +1,129 @@
+package it.fbonfadelli.hand_baggage.batch;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationInterner;
+import it.fbonfadelli.model.Order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates every flight of a batch of orders on its own {@link ForkJoinPool}, returning the results of
+ * {@link HandBaggageInformationFactory#fromAll} in the same order as the input.
+ * <p>
+ * The factory is shared by all the workers; each order is evaluated by a single worker, so orders must not be
+ * modified while a batch is running. Equal results are interned across the batches of an evaluator, so the results of
+ * flights that get the same message are the same instance.
+ */
+public class HandBaggageBatchEvaluator implements AutoCloseable {
+    private static final int SPLITS_PER_WORKER = 4;
+
+    private final HandBaggageInformationFactory handBaggageInformationFactory;
+    private final String renderLanguage;
+    private final ForkJoinPool pool;
+    private final HandBaggageInformationInterner interner = new HandBaggageInformationInterner();
+
+    public HandBaggageBatchEvaluator(HandBaggageInformationFactory handBaggageInformationFactory, String renderLanguage) {
+        this(handBaggageInformationFactory, renderLanguage, Runtime.getRuntime().availableProcessors());
+    }
+
+    public HandBaggageBatchEvaluator(HandBaggageInformationFactory handBaggageInformationFactory, String renderLanguage, int parallelism) {
+        this.handBaggageInformationFactory = handBaggageInformationFactory;
+        this.renderLanguage = renderLanguage;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    public List<Map<Integer, HandBaggageInformation>> evaluate(List<Order> orders) {
+        @SuppressWarnings("unchecked")
+        Map<Integer, HandBaggageInformation>[] results = (Map<Integer, HandBaggageInformation>[]) new Map<?, ?>[orders.size()];
+        int leafSize = Math.max(1, orders.size() / (pool.getParallelism() * SPLITS_PER_WORKER));
+        pool.invoke(new EvaluateRange(orders, results, 0, orders.size(), leafSize));
+        return Arrays.asList(results);
+    }
+
+    public List<Map<Integer, HandBaggageInformation>> evaluate(Spliterator<Order> orders) {
+        long leafSize = Math.max(1L, orders.estimateSize() / (pool.getParallelism() * SPLITS_PER_WORKER));
+        return pool.invoke(new EvaluateSpliterator(orders, leafSize));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private Map<Integer, HandBaggageInformation> evaluate(Order order) {
+        Map<Integer, HandBaggageInformation> handBaggageInformation = handBaggageInformationFactory.fromAll(order, renderLanguage);
+        handBaggageInformation.replaceAll((flightId, result) -> interner.intern(result));
+        return handBaggageInformation;
+    }
+
+    private class EvaluateRange extends RecursiveAction {
+        private final List<Order> orders;
+        private final Map<Integer, HandBaggageInformation>[] results;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        private EvaluateRange(List<Order> orders, Map<Integer, HandBaggageInformation>[] results, int from, int to, int leafSize) {
+            this.orders = orders;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = evaluate(orders.get(i));
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new EvaluateRange(orders, results, from, middle, leafSize),
+                    new EvaluateRange(orders, results, middle, to, leafSize)
+            );
+        }
+    }
+
+    private class EvaluateSpliterator extends RecursiveTask<List<Map<Integer, HandBaggageInformation>>> {
+        private final Spliterator<Order> orders;
+        private final long leafSize;
+
+        private EvaluateSpliterator(Spliterator<Order> orders, long leafSize) {
+            this.orders = orders;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected List<Map<Integer, HandBaggageInformation>> compute() {
+            Spliterator<Order> prefix;
+            if (orders.estimateSize() > leafSize && (prefix = orders.trySplit()) != null) {
+                EvaluateSpliterator left = new EvaluateSpliterator(prefix, leafSize);
+                left.fork();
+                List<Map<Integer, HandBaggageInformation>> right = new EvaluateSpliterator(orders, leafSize).compute();
+                List<Map<Integer, HandBaggageInformation>> results = left.join();
+                results.addAll(right);
+                return results;
+            }
+
+            List<Map<Integer, HandBaggageInformation>> results = new ArrayList<>();
+            orders.forEachRemaining(order -> results.add(evaluate(order)));
+            return results;
+        }
+    }
+}
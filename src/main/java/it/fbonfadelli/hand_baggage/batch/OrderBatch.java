@@ -0,0 +1,114 @@
+package it.fbonfadelli.hand_baggage.batch;
+
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Hop;
+import it.fbonfadelli.model.Leg;
+import it.fbonfadelli.model.Order;
+
+import java.util.List;
+
+public final class OrderBatch {
+    private final int[] orderFlightOffsets;
+    private final int[] flightIds;
+    private final int[] flightLegOffsets;
+    private final int[] flightHopOffsets;
+    private final long[] legDepartureEpochSeconds;
+    private final int[] hopAirlineIndexes;
+
+    private OrderBatch(int[] orderFlightOffsets, int[] flightIds, int[] flightLegOffsets, int[] flightHopOffsets,
+                       long[] legDepartureEpochSeconds, int[] hopAirlineIndexes) {
+        this.orderFlightOffsets = orderFlightOffsets;
+        this.flightIds = flightIds;
+        this.flightLegOffsets = flightLegOffsets;
+        this.flightHopOffsets = flightHopOffsets;
+        this.legDepartureEpochSeconds = legDepartureEpochSeconds;
+        this.hopAirlineIndexes = hopAirlineIndexes;
+    }
+
+    public static OrderBatch from(List<Order> orders) {
+        int flights = 0;
+        int legs = 0;
+        int hops = 0;
+        for (Order order : orders) {
+            for (Flight flight : order.getFlights()) {
+                flights++;
+                for (Leg leg : flight.getLegs()) {
+                    legs++;
+                    hops += leg.getHops().size();
+                }
+            }
+        }
+
+        int[] orderFlightOffsets = new int[orders.size() + 1];
+        int[] flightIds = new int[flights];
+        int[] flightLegOffsets = new int[flights + 1];
+        int[] flightHopOffsets = new int[flights + 1];
+        long[] legDepartureEpochSeconds = new long[legs];
+        int[] hopAirlineIndexes = new int[hops];
+
+        int flight = 0;
+        int leg = 0;
+        int hop = 0;
+        for (int order = 0; order < orders.size(); order++) {
+            orderFlightOffsets[order] = flight;
+            for (Flight orderFlight : orders.get(order).getFlights()) {
+                flightIds[flight] = orderFlight.getFlightId();
+                flightLegOffsets[flight] = leg;
+                flightHopOffsets[flight] = hop;
+                for (Leg flightLeg : orderFlight.getLegs()) {
+                    legDepartureEpochSeconds[leg++] = flightLeg.getDeparture().getEpochSecondRoundedUp();
+                    for (Hop legHop : flightLeg.getHops()) {
+                        hopAirlineIndexes[hop++] = legHop.getHopFlight().getAirlineIndex();
+                    }
+                }
+                flight++;
+            }
+        }
+        orderFlightOffsets[orders.size()] = flight;
+        flightLegOffsets[flights] = leg;
+        flightHopOffsets[flights] = hop;
+
+        return new OrderBatch(orderFlightOffsets, flightIds, flightLegOffsets, flightHopOffsets, legDepartureEpochSeconds, hopAirlineIndexes);
+    }
+
+    public int orderCount() {
+        return orderFlightOffsets.length - 1;
+    }
+
+    public int flightCount() {
+        return flightIds.length;
+    }
+
+    public int firstFlightOf(int order) {
+        return orderFlightOffsets[order];
+    }
+
+    public int flightCountOf(int order) {
+        return orderFlightOffsets[order + 1] - orderFlightOffsets[order];
+    }
+
+    public int flightId(int flight) {
+        return flightIds[flight];
+    }
+
+    int firstLegOf(int flight) {
+        return flightLegOffsets[flight];
+    }
+
+    int legCountOf(int flight) {
+        return flightLegOffsets[flight + 1] - flightLegOffsets[flight];
+    }
+
+    long legDepartureEpochSecond(int leg) {
+        return legDepartureEpochSeconds[leg];
+    }
+
+    boolean hasCarrier(int flight, int airlineIndex) {
+        for (int hop = flightHopOffsets[flight]; hop < flightHopOffsets[flight + 1]; hop++) {
+            if (hopAirlineIndexes[hop] == airlineIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
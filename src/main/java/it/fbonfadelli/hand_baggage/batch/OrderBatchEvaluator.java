@@ -0,0 +1,63 @@
+package it.fbonfadelli.hand_baggage.batch;
+
+import it.fbonfadelli.hand_baggage.DecisionTable;
+import it.fbonfadelli.hand_baggage.FlightFeatures;
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.model.FlightSummary;
+
+public class OrderBatchEvaluator {
+    private final DecisionTable decisionTable;
+    private final NotMyCompanyHandBaggageInformationFactory fallbackHandBaggageFactory;
+    private final long cutoffEpochSecond;
+
+    public OrderBatchEvaluator(DecisionTable decisionTable, NotMyCompanyHandBaggageInformationFactory fallbackHandBaggageFactory) {
+        this.decisionTable = decisionTable;
+        this.fallbackHandBaggageFactory = fallbackHandBaggageFactory;
+        this.cutoffEpochSecond = decisionTable.cutoff();
+    }
+
+    public HandBaggageInformation[] evaluate(OrderBatch batch, String renderLanguage) {
+        HandBaggageInformation[] handBaggageInformationByFlight = new HandBaggageInformation[batch.flightCount()];
+        HandBaggageInformation[] handBaggageInformationByFeatures = new HandBaggageInformation[FlightFeatures.COMBINATIONS];
+
+        for (int flight = 0; flight < handBaggageInformationByFlight.length; flight++) {
+            int features = featuresOf(batch, flight);
+            HandBaggageInformation handBaggageInformation = handBaggageInformationByFeatures[features];
+            if (handBaggageInformation == null) {
+                handBaggageInformation = handBaggageInformationFor(features, renderLanguage);
+                handBaggageInformationByFeatures[features] = handBaggageInformation;
+            }
+            handBaggageInformationByFlight[flight] = handBaggageInformation;
+        }
+
+        return handBaggageInformationByFlight;
+    }
+
+    private int featuresOf(OrderBatch batch, int flight) {
+        int firstLeg = batch.firstLegOf(flight);
+        int legCount = batch.legCountOf(flight);
+
+        long outboundDeparture = legCount == 0 ? FlightSummary.NO_DEPARTURE : batch.legDepartureEpochSecond(firstLeg);
+        boolean returnAfterCutoff = false;
+        for (int leg = firstLeg + 1; leg < firstLeg + legCount; leg++) {
+            returnAfterCutoff |= batch.legDepartureEpochSecond(leg) > cutoffEpochSecond;
+        }
+
+        return FlightFeatures.of(
+                batch.hasCarrier(flight, FlightSummary.MY_COMPANY_AIRLINE_INDEX),
+                legCount == 1,
+                outboundDeparture > cutoffEpochSecond,
+                returnAfterCutoff
+        );
+    }
+
+    private HandBaggageInformation handBaggageInformationFor(int features, String renderLanguage) {
+        HandBaggageInformationPolicy policy = decisionTable.select(features);
+        if (policy == null) {
+            return fallbackHandBaggageFactory.make();
+        }
+        return policy.getFrom(renderLanguage);
+    }
+}
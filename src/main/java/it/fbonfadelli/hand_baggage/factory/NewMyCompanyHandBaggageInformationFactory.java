@@ -1,36 +1,124 @@
 package it.fbonfadelli.hand_baggage.factory;
 
 import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationProvider;
 import it.fbonfadelli.model.HandBaggageAlert;
+import it.fbonfadelli.translation.AsyncTranslationRepository;
 import it.fbonfadelli.translation.TranslationRepository;
+import it.fbonfadelli.translation.template.TemplateCache;
 
-public class NewMyCompanyHandBaggageInformationFactory {
-    private static final String MY_COMPANY_NEW_BAGGAGE_INFORMATION_LABEL = "customer_area.new_hand_baggage_policy.label.my_company_id";
-    private static final String MY_COMPANY_NEW_BAGGAGE_INFORMATION_LINK = "customer_area.new_hand_baggage_policy.link.my_company_id";
-    private static final String CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT_TITLE = "customer_area.new_hand_baggage_policy.alert.title.my_company_id";
-    private static final String CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT = "customer_area.new_hand_baggage_policy.alert.my_company_id";
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-    private TranslationRepository translationRepository;
+public class NewMyCompanyHandBaggageInformationFactory implements HandBaggageInformationProvider {
+    private static final String NEW_BAGGAGE_INFORMATION_LABEL = "customer_area.new_hand_baggage_policy.label.";
+    private static final String NEW_BAGGAGE_INFORMATION_LINK = "customer_area.new_hand_baggage_policy.link.";
+    private static final String CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT_TITLE = "customer_area.new_hand_baggage_policy.alert.title.";
+    private static final String CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT = "customer_area.new_hand_baggage_policy.alert.";
+    private static final String LINK_PLACEHOLDER = "link";
+
+    public static final String MY_COMPANY_TRANSLATION_ID = "my_company_id";
+    public static final List<String> TRANSLATION_KEYS = translationKeys(MY_COMPANY_TRANSLATION_ID);
+
+    private final String labelKey;
+    private final String linkKey;
+    private final String alertTitleKey;
+    private final String alertKey;
+    private final List<String> translationKeys;
+    private final TranslationRepository translationRepository;
+    private final AsyncTranslationRepository asyncTranslationRepository;
+    private final PerLanguageCache perLanguageCache;
+    private final TemplateCache templateCache = new TemplateCache();
 
     public NewMyCompanyHandBaggageInformationFactory(TranslationRepository translationRepository) {
+        this(translationRepository, MY_COMPANY_TRANSLATION_ID);
+    }
+
+    public NewMyCompanyHandBaggageInformationFactory(TranslationRepository translationRepository, String translationId) {
+        this(translationRepository, null, false, translationId);
+    }
+
+    private NewMyCompanyHandBaggageInformationFactory(TranslationRepository translationRepository,
+                                                      AsyncTranslationRepository asyncTranslationRepository,
+                                                      boolean cachedPerLanguage,
+                                                      String translationId) {
+        this.labelKey = NEW_BAGGAGE_INFORMATION_LABEL + translationId;
+        this.linkKey = NEW_BAGGAGE_INFORMATION_LINK + translationId;
+        this.alertTitleKey = CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT_TITLE + translationId;
+        this.alertKey = CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT + translationId;
+        this.translationKeys = translationKeys(translationId);
         this.translationRepository = translationRepository;
+        this.asyncTranslationRepository = asyncTranslationRepository;
+        this.perLanguageCache = cachedPerLanguage ? PerLanguageCache.enabled(this::make) : PerLanguageCache.disabled(this::make);
     }
 
+    public static NewMyCompanyHandBaggageInformationFactory cachedPerLanguage(TranslationRepository translationRepository) {
+        return new NewMyCompanyHandBaggageInformationFactory(translationRepository, null, true, MY_COMPANY_TRANSLATION_ID);
+    }
+
+    public static NewMyCompanyHandBaggageInformationFactory async(AsyncTranslationRepository asyncTranslationRepository) {
+        return new NewMyCompanyHandBaggageInformationFactory(AsyncTranslationRepository.blocking(asyncTranslationRepository), asyncTranslationRepository, false, MY_COMPANY_TRANSLATION_ID);
+    }
+
+    @Override
     public HandBaggageInformation from(String renderLanguage) {
+        return perLanguageCache.get(renderLanguage);
+    }
+
+    @Override
+    public CompletableFuture<HandBaggageInformation> fromAsync(String renderLanguage) {
+        if (asyncTranslationRepository == null) {
+            return CompletableFuture.completedFuture(from(renderLanguage));
+        }
+        return asyncTranslationRepository.retrieveAll(translationKeys, renderLanguage)
+                .thenApply(translations -> handBaggageInformation(translations, renderLanguage));
+    }
+
+    public void invalidate() {
+        perLanguageCache.invalidate();
+        templateCache.invalidate();
+    }
+
+    public void invalidate(String renderLanguage) {
+        perLanguageCache.invalidate(renderLanguage);
+    }
+
+    private HandBaggageInformation make(String renderLanguage) {
+        if (asyncTranslationRepository != null) {
+            return AsyncTranslationRepository.join(fromAsync(renderLanguage));
+        }
+        return handBaggageInformation(translationRepository.retrieveAll(translationKeys, renderLanguage), renderLanguage);
+    }
+
+    private HandBaggageInformation handBaggageInformation(Map<String, String> translations, String renderLanguage) {
+        String link = translations.get(linkKey);
         return new HandBaggageInformation(
-                createHandBaggageAlert(translationRepository, renderLanguage),
+                createHandBaggageAlert(translations, renderLanguage, link),
                 false,
-                translationRepository.retrieve(MY_COMPANY_NEW_BAGGAGE_INFORMATION_LABEL, renderLanguage).replace("{{link}}", translationRepository.retrieve(MY_COMPANY_NEW_BAGGAGE_INFORMATION_LINK, renderLanguage))
+                renderWithLink(labelKey, translations, renderLanguage, link)
+        );
+    }
+
+    private HandBaggageAlert createHandBaggageAlert(Map<String, String> translations, String renderLanguage, String link) {
+        return new HandBaggageAlert(
+                translations.get(alertTitleKey),
+                renderWithLink(alertKey, translations, renderLanguage, link)
         );
     }
 
-    private HandBaggageAlert createHandBaggageAlert(TranslationRepository translationRepository, String renderLanguage) {
-        HandBaggageAlert handBaggageAlert = new HandBaggageAlert();
-        handBaggageAlert.setTitle(translationRepository.retrieve(CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT_TITLE, renderLanguage));
-        String message = translationRepository.retrieve(CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT, renderLanguage);
-        String link = translationRepository.retrieve(MY_COMPANY_NEW_BAGGAGE_INFORMATION_LINK, renderLanguage);
-        String messageWithLink = message.replace("{{link}}", link);
-        handBaggageAlert.setMessage(messageWithLink);
-        return handBaggageAlert;
+    private String renderWithLink(String key, Map<String, String> translations, String renderLanguage, String link) {
+        return templateCache.get(key, renderLanguage, translations.get(key)).render(LINK_PLACEHOLDER, link);
+    }
+
+    private static List<String> translationKeys(String translationId) {
+        return Collections.unmodifiableList(Arrays.asList(
+                NEW_BAGGAGE_INFORMATION_LABEL + translationId,
+                NEW_BAGGAGE_INFORMATION_LINK + translationId,
+                CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT_TITLE + translationId,
+                CUSTOMER_AREA_CIA_NEW_HAND_LUGGAGE_POLICY_ALERT + translationId
+        ));
     }
 }
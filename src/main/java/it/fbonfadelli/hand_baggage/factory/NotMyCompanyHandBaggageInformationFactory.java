@@ -3,11 +3,13 @@ package it.fbonfadelli.hand_baggage.factory;
 import it.fbonfadelli.hand_baggage.HandBaggageInformation;
 
 public class NotMyCompanyHandBaggageInformationFactory {
+    private static final HandBaggageInformation NOT_MY_COMPANY_HAND_BAGGAGE_INFORMATION = new HandBaggageInformation(
+            null,
+            true,
+            null
+    );
+
     public HandBaggageInformation make() {
-        return new HandBaggageInformation(
-                null,
-                true,
-                null
-        );
+        return NOT_MY_COMPANY_HAND_BAGGAGE_INFORMATION;
     }
 }
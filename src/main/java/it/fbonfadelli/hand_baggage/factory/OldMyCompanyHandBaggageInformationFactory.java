@@ -1,23 +1,99 @@
 package it.fbonfadelli.hand_baggage.factory;
 
 import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationProvider;
+import it.fbonfadelli.translation.AsyncTranslationRepository;
 import it.fbonfadelli.translation.TranslationRepository;
 
-public class OldMyCompanyHandBaggageInformationFactory {
-    private static final String MY_COMPANY_BAGGAGE_INFORMATION_LABEL = "customer_area.hand_baggage_policy.label.my_company_id";
-    private static final String MY_COMPANY_BAGGAGE_INFORMATION_LINK = "customer_area.hand_baggage_policy.link.my_company_id";
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-    private TranslationRepository translationRepository;
+public class OldMyCompanyHandBaggageInformationFactory implements HandBaggageInformationProvider {
+    private static final String BAGGAGE_INFORMATION_LABEL = "customer_area.hand_baggage_policy.label.";
+    private static final String BAGGAGE_INFORMATION_LINK = "customer_area.hand_baggage_policy.link.";
+
+    public static final String MY_COMPANY_TRANSLATION_ID = "my_company_id";
+    public static final List<String> TRANSLATION_KEYS = translationKeys(MY_COMPANY_TRANSLATION_ID);
+
+    private final String labelKey;
+    private final String linkKey;
+    private final List<String> translationKeys;
+    private final TranslationRepository translationRepository;
+    private final AsyncTranslationRepository asyncTranslationRepository;
+    private final PerLanguageCache perLanguageCache;
 
     public OldMyCompanyHandBaggageInformationFactory(TranslationRepository translationRepository) {
+        this(translationRepository, MY_COMPANY_TRANSLATION_ID);
+    }
+
+    public OldMyCompanyHandBaggageInformationFactory(TranslationRepository translationRepository, String translationId) {
+        this(translationRepository, null, false, translationId);
+    }
+
+    private OldMyCompanyHandBaggageInformationFactory(TranslationRepository translationRepository,
+                                                      AsyncTranslationRepository asyncTranslationRepository,
+                                                      boolean cachedPerLanguage,
+                                                      String translationId) {
+        this.labelKey = BAGGAGE_INFORMATION_LABEL + translationId;
+        this.linkKey = BAGGAGE_INFORMATION_LINK + translationId;
+        this.translationKeys = translationKeys(translationId);
         this.translationRepository = translationRepository;
+        this.asyncTranslationRepository = asyncTranslationRepository;
+        this.perLanguageCache = cachedPerLanguage ? PerLanguageCache.enabled(this::make) : PerLanguageCache.disabled(this::make);
     }
 
+    public static OldMyCompanyHandBaggageInformationFactory cachedPerLanguage(TranslationRepository translationRepository) {
+        return new OldMyCompanyHandBaggageInformationFactory(translationRepository, null, true, MY_COMPANY_TRANSLATION_ID);
+    }
+
+    public static OldMyCompanyHandBaggageInformationFactory async(AsyncTranslationRepository asyncTranslationRepository) {
+        return new OldMyCompanyHandBaggageInformationFactory(AsyncTranslationRepository.blocking(asyncTranslationRepository), asyncTranslationRepository, false, MY_COMPANY_TRANSLATION_ID);
+    }
+
+    @Override
     public HandBaggageInformation from(String renderLanguage) {
+        return perLanguageCache.get(renderLanguage);
+    }
+
+    @Override
+    public CompletableFuture<HandBaggageInformation> fromAsync(String renderLanguage) {
+        if (asyncTranslationRepository == null) {
+            return CompletableFuture.completedFuture(from(renderLanguage));
+        }
+        return asyncTranslationRepository.retrieveAll(translationKeys, renderLanguage)
+                .thenApply(this::handBaggageInformation);
+    }
+
+    public void invalidate() {
+        perLanguageCache.invalidate();
+    }
+
+    public void invalidate(String renderLanguage) {
+        perLanguageCache.invalidate(renderLanguage);
+    }
+
+    private HandBaggageInformation make(String renderLanguage) {
+        if (asyncTranslationRepository != null) {
+            return AsyncTranslationRepository.join(fromAsync(renderLanguage));
+        }
+        return handBaggageInformation(translationRepository.retrieveAll(translationKeys, renderLanguage));
+    }
+
+    private HandBaggageInformation handBaggageInformation(Map<String, String> translations) {
         return new HandBaggageInformation(
                 null,
                 true,
                 "<a target=\"_blank\" href=\"" +
-                        translationRepository.retrieve(MY_COMPANY_BAGGAGE_INFORMATION_LINK, renderLanguage) + "\">" + translationRepository.retrieve(MY_COMPANY_BAGGAGE_INFORMATION_LABEL, renderLanguage) + "</a>");
+                        translations.get(linkKey) + "\">" + translations.get(labelKey) + "</a>");
+    }
+
+    private static List<String> translationKeys(String translationId) {
+        return Collections.unmodifiableList(Arrays.asList(
+                BAGGAGE_INFORMATION_LINK + translationId,
+                BAGGAGE_INFORMATION_LABEL + translationId
+        ));
     }
 }
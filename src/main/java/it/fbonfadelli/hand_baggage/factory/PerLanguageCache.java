@@ -0,0 +1,50 @@
+package it.fbonfadelli.hand_baggage.factory;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+class PerLanguageCache {
+    private final Function<String, HandBaggageInformation> loader;
+    private final ConcurrentMap<String, HandBaggageInformation> informationByLanguage;
+
+    private PerLanguageCache(Function<String, HandBaggageInformation> loader,
+                             ConcurrentMap<String, HandBaggageInformation> informationByLanguage) {
+        this.loader = loader;
+        this.informationByLanguage = informationByLanguage;
+    }
+
+    static PerLanguageCache enabled(Function<String, HandBaggageInformation> loader) {
+        return new PerLanguageCache(loader, new ConcurrentHashMap<>());
+    }
+
+    static PerLanguageCache disabled(Function<String, HandBaggageInformation> loader) {
+        return new PerLanguageCache(loader, null);
+    }
+
+    HandBaggageInformation get(String renderLanguage) {
+        if (informationByLanguage == null || renderLanguage == null) {
+            return loader.apply(renderLanguage);
+        }
+
+        HandBaggageInformation information = informationByLanguage.get(renderLanguage);
+        if (information != null) {
+            return information;
+        }
+        return informationByLanguage.computeIfAbsent(renderLanguage, loader);
+    }
+
+    void invalidate() {
+        if (informationByLanguage != null) {
+            informationByLanguage.clear();
+        }
+    }
+
+    void invalidate(String renderLanguage) {
+        if (informationByLanguage != null) {
+            informationByLanguage.remove(renderLanguage);
+        }
+    }
+}
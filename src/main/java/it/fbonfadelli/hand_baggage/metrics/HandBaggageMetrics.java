@@ -0,0 +1,202 @@
+package it.fbonfadelli.hand_baggage.metrics;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts every policy selection, and samples one call every {@code sampleEvery} into the latency histograms: two
+ * {@link System#nanoTime()} calls would cost more than the rest of the instrumentation together, while the sampled
+ * distribution is the same. Thread-safe; recording takes no locks and allocates nothing once every policy has been seen.
+ * <p>
+ * Hits are kept by {@link HandBaggageInformationPolicy#name()}. Selections are recorded through the {@link PolicyHits}
+ * of the policy snapshot they come from, which keeps each policy's counter by position in the snapshot (or, for
+ * selectors that cannot list their policies, by identity) and is dropped with its snapshot, so reloaded policies are
+ * neither retained nor counted twice.
+ */
+public class HandBaggageMetrics implements HandBaggageMetricsMXBean {
+    public static final int DEFAULT_SAMPLE_EVERY = 64;
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static final String OBJECT_NAME_PREFIX = "it.fbonfadelli:type=HandBaggageMetrics,name=";
+
+    private final int sampleMask;
+    private final ConcurrentMap<String, LongAdder> hitsByPolicy = new ConcurrentHashMap<>();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LatencyHistogram evaluationLatency = new LatencyHistogram();
+    private final LatencyHistogram translationLatency = new LatencyHistogram();
+
+    public HandBaggageMetrics() {
+        this(DEFAULT_SAMPLE_EVERY);
+    }
+
+    public HandBaggageMetrics(int sampleEvery) {
+        if (sampleEvery < 1 || Integer.bitCount(sampleEvery) != 1) {
+            throw new IllegalArgumentException("The sampling rate must be a positive power of two, was " + sampleEvery);
+        }
+        this.sampleMask = sampleEvery - 1;
+    }
+
+    public PolicyHits policyHits() {
+        return new PolicyHits(new ArrayList<HandBaggageInformationPolicy>());
+    }
+
+    /**
+     * @return the hit counters of a snapshot whose selections are recorded by position in {@code policies}
+     */
+    public PolicyHits policyHits(List<? extends HandBaggageInformationPolicy> policies) {
+        return new PolicyHits(new ArrayList<HandBaggageInformationPolicy>(policies));
+    }
+
+    public long startTimer() {
+        if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    public void recordEvaluationLatency(long start) {
+        if (start != NOT_SAMPLED) {
+            evaluationLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    public void recordTranslationLatency(long start) {
+        if (start != NOT_SAMPLED) {
+            translationLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    public HandBaggageMetricsSnapshot snapshot() {
+        Map<String, Long> policyHits = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : hitsByPolicy.entrySet()) {
+            policyHits.put(entry.getKey(), entry.getValue().sum());
+        }
+        return new HandBaggageMetricsSnapshot(policyHits, fallbacks.sum(), evaluationLatency.snapshot(), translationLatency.snapshot());
+    }
+
+    public ObjectName registerMBean(String name) {
+        return registerMBean(ManagementFactory.getPlatformMBeanServer(), name);
+    }
+
+    public ObjectName registerMBean(MBeanServer mBeanServer, String name) {
+        try {
+            return mBeanServer.registerMBean(this, new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name))).getObjectName();
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register the hand baggage metrics as " + name, e);
+        }
+    }
+
+    @Override
+    public long getEvaluationCount() {
+        return snapshot().getEvaluationCount();
+    }
+
+    @Override
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public Map<String, Long> getPolicyHits() {
+        return snapshot().getPolicyHits();
+    }
+
+    @Override
+    public long getSampledEvaluationCount() {
+        return evaluationLatency.snapshot().getCount();
+    }
+
+    @Override
+    public double getEvaluationMeanNanos() {
+        return evaluationLatency.snapshot().getMeanNanos();
+    }
+
+    @Override
+    public long getEvaluationP50Nanos() {
+        return evaluationLatency.snapshot().getPercentileNanos(50);
+    }
+
+    @Override
+    public long getEvaluationP99Nanos() {
+        return evaluationLatency.snapshot().getPercentileNanos(99);
+    }
+
+    @Override
+    public long getSampledTranslationCount() {
+        return translationLatency.snapshot().getCount();
+    }
+
+    @Override
+    public double getTranslationMeanNanos() {
+        return translationLatency.snapshot().getMeanNanos();
+    }
+
+    @Override
+    public long getTranslationP50Nanos() {
+        return translationLatency.snapshot().getPercentileNanos(50);
+    }
+
+    @Override
+    public long getTranslationP99Nanos() {
+        return translationLatency.snapshot().getPercentileNanos(99);
+    }
+
+    /**
+     * The hit counters of one policy snapshot.
+     */
+    public final class PolicyHits {
+        private final List<HandBaggageInformationPolicy> policies;
+        private final LongAdder[] hitsByPosition;
+        private final ConcurrentMap<HandBaggageInformationPolicy, LongAdder> hitsByPolicyInstance = new ConcurrentHashMap<>();
+
+        private PolicyHits(List<HandBaggageInformationPolicy> policies) {
+            this.policies = policies;
+            this.hitsByPosition = new LongAdder[policies.size()];
+        }
+
+        /**
+         * @param position the position of the selected policy in the snapshot, or a negative value for a fallback
+         */
+        public void recordSelection(int position) {
+            if (position < 0) {
+                fallbacks.increment();
+                return;
+            }
+            LongAdder hits = hitsByPosition[position];
+            if (hits == null) {
+                // racy but benign: every thread resolves the same counter
+                hits = hitsOf(policies.get(position));
+                hitsByPosition[position] = hits;
+            }
+            hits.increment();
+        }
+
+        public void recordSelection(HandBaggageInformationPolicy policy) {
+            if (policy == null) {
+                fallbacks.increment();
+                return;
+            }
+            LongAdder hits = hitsByPolicyInstance.get(policy);
+            if (hits == null) {
+                hits = hitsByPolicyInstance.computeIfAbsent(policy, this::hitsOf);
+            }
+            hits.increment();
+        }
+
+        private LongAdder hitsOf(HandBaggageInformationPolicy policy) {
+            return hitsByPolicy.computeIfAbsent(policy.name(), name -> new LongAdder());
+        }
+    }
+}
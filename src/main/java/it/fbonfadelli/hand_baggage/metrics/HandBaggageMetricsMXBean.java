@@ -0,0 +1,27 @@
+package it.fbonfadelli.hand_baggage.metrics;
+
+import java.util.Map;
+
+public interface HandBaggageMetricsMXBean {
+    long getEvaluationCount();
+
+    long getFallbackCount();
+
+    Map<String, Long> getPolicyHits();
+
+    long getSampledEvaluationCount();
+
+    double getEvaluationMeanNanos();
+
+    long getEvaluationP50Nanos();
+
+    long getEvaluationP99Nanos();
+
+    long getSampledTranslationCount();
+
+    double getTranslationMeanNanos();
+
+    long getTranslationP50Nanos();
+
+    long getTranslationP99Nanos();
+}
@@ -0,0 +1,56 @@
+package it.fbonfadelli.hand_baggage.metrics;
+
+import java.util.Map;
+
+public class HandBaggageMetricsSnapshot {
+    private final Map<String, Long> policyHits;
+    private final long fallbackCount;
+    private final LatencyHistogramSnapshot evaluationLatency;
+    private final LatencyHistogramSnapshot translationLatency;
+
+    HandBaggageMetricsSnapshot(Map<String, Long> policyHits, long fallbackCount,
+                               LatencyHistogramSnapshot evaluationLatency, LatencyHistogramSnapshot translationLatency) {
+        this.policyHits = policyHits;
+        this.fallbackCount = fallbackCount;
+        this.evaluationLatency = evaluationLatency;
+        this.translationLatency = translationLatency;
+    }
+
+    public Map<String, Long> getPolicyHits() {
+        return policyHits;
+    }
+
+    public long getPolicyHits(String policyName) {
+        return policyHits.getOrDefault(policyName, 0L);
+    }
+
+    public long getFallbackCount() {
+        return fallbackCount;
+    }
+
+    public long getEvaluationCount() {
+        long evaluations = fallbackCount;
+        for (long hits : policyHits.values()) {
+            evaluations += hits;
+        }
+        return evaluations;
+    }
+
+    public LatencyHistogramSnapshot getEvaluationLatency() {
+        return evaluationLatency;
+    }
+
+    public LatencyHistogramSnapshot getTranslationLatency() {
+        return translationLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "HandBaggageMetricsSnapshot{" +
+                "policyHits=" + policyHits +
+                ", fallbackCount=" + fallbackCount +
+                ", evaluationLatency=" + evaluationLatency +
+                ", translationLatency=" + translationLatency +
+                '}';
+    }
+}
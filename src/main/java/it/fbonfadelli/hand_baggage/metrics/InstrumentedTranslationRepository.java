@@ -0,0 +1,36 @@
+package it.fbonfadelli.hand_baggage.metrics;
+
+import it.fbonfadelli.translation.TranslationRepository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public class InstrumentedTranslationRepository implements TranslationRepository {
+    private final TranslationRepository delegate;
+    private final HandBaggageMetrics metrics;
+
+    public InstrumentedTranslationRepository(TranslationRepository delegate, HandBaggageMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String retrieve(String key, String language) {
+        long start = metrics.startTimer();
+        try {
+            return delegate.retrieve(key, language);
+        } finally {
+            metrics.recordTranslationLatency(start);
+        }
+    }
+
+    @Override
+    public Map<String, String> retrieveAll(Collection<String> keys, String language) {
+        long start = metrics.startTimer();
+        try {
+            return delegate.retrieveAll(keys, language);
+        } finally {
+            metrics.recordTranslationLatency(start);
+        }
+    }
+}
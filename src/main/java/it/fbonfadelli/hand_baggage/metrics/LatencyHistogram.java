@@ -0,0 +1,45 @@
+package it.fbonfadelli.hand_baggage.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed log2 buckets of nanoseconds: bucket 0 counts zero, bucket {@code b} counts [2^(b-1), 2^b). Recording is a
+ * couple of {@link LongAdder} increments and allocates nothing once the adders are warm.
+ */
+public class LatencyHistogram {
+    public static final int BUCKETS = Long.SIZE;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets[bucket] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long positiveNanos = Math.max(nanos, 0L);
+        buckets[bucketOf(positiveNanos)].increment();
+        totalNanos.add(positiveNanos);
+    }
+
+    public LatencyHistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] = buckets[bucket].sum();
+        }
+        return new LatencyHistogramSnapshot(counts, totalNanos.sum());
+    }
+
+    static int bucketOf(long nanos) {
+        return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    static long upperBoundNanosOf(int bucket) {
+        if (bucket == 0) {
+            return 0L;
+        }
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,59 @@
+package it.fbonfadelli.hand_baggage.metrics;
+
+import java.util.Arrays;
+
+public class LatencyHistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+
+    LatencyHistogramSnapshot(long[] counts, long totalNanos) {
+        this.counts = counts;
+        this.count = Arrays.stream(counts).sum();
+        this.totalNanos = totalNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0.0 : (double) totalNanos / count;
+    }
+
+    /**
+     * The upper bound of the bucket holding the given percentile, so it overestimates by less than a factor of two.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(count * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= Math.max(rank, 1L)) {
+                return LatencyHistogram.upperBoundNanosOf(bucket);
+            }
+        }
+        return LatencyHistogram.upperBoundNanosOf(counts.length - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogramSnapshot{" +
+                "count=" + count +
+                ", meanNanos=" + getMeanNanos() +
+                ", p50Nanos=" + getPercentileNanos(50) +
+                ", p99Nanos=" + getPercentileNanos(99) +
+                '}';
+    }
+}
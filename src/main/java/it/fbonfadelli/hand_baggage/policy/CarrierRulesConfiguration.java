@@ -0,0 +1,101 @@
+package it.fbonfadelli.hand_baggage.policy;
+
+import it.fbonfadelli.hand_baggage.CarrierRuleIndex;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationProvider;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.translation.TranslationRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads the per-carrier hand baggage rules, one per line:
+ * <pre>
+ * airlineId,effectiveAfter,old|new,translationId
+ * </pre>
+ * where effectiveAfter is {@code *} for a rule with no start, or an ISO date-time (UTC when it has no offset), e.g.
+ * {@code MY_COMPANY_AIRLINE_ID,2018-11-01T00:00:00Z,new,my_company_id}. Empty lines and lines starting with
+ * {@code #} are skipped. Carriers keep the priority of their first line.
+ */
+public class CarrierRulesConfiguration {
+    private static final String ALWAYS = "*";
+    private static final String OLD_RULE = "old";
+    private static final String NEW_RULE = "new";
+
+    private final TranslationRepository translationRepository;
+    private final Map<String, HandBaggageInformationProvider> providersByRuleAndTranslationId = new HashMap<>();
+
+    private CarrierRulesConfiguration(TranslationRepository translationRepository) {
+        this.translationRepository = translationRepository;
+    }
+
+    public static CarrierRuleIndex load(Path configuration, TranslationRepository translationRepository) throws IOException {
+        try (Reader reader = Files.newBufferedReader(configuration, StandardCharsets.UTF_8)) {
+            return load(reader, translationRepository);
+        }
+    }
+
+    public static CarrierRuleIndex load(Reader configuration, TranslationRepository translationRepository) throws IOException {
+        return new CarrierRulesConfiguration(translationRepository).read(configuration);
+    }
+
+    private CarrierRuleIndex read(Reader configuration) throws IOException {
+        CarrierRuleIndex.Builder builder = CarrierRuleIndex.builder();
+        BufferedReader reader = new BufferedReader(configuration);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+
+            String[] columns = line.split(",", -1);
+            if (columns.length != 4 || columns[0].isEmpty() || columns[3].isEmpty()) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected airlineId,effectiveAfter,old|new,translationId but was " + line);
+            }
+            try {
+                builder.add(columns[0], effectiveAfter(columns[1]), provider(columns[2], columns[3]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        try {
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid carrier rules: " + e.getMessage(), e);
+        }
+    }
+
+    private static long effectiveAfter(String effectiveAfter) {
+        if (ALWAYS.equals(effectiveAfter)) {
+            return CarrierRuleIndex.ALWAYS;
+        }
+        try {
+            return OffsetDateTime.parse(effectiveAfter).toEpochSecond();
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(effectiveAfter).toEpochSecond(ZoneOffset.UTC);
+        }
+    }
+
+    private HandBaggageInformationProvider provider(String rule, String translationId) {
+        if (!OLD_RULE.equals(rule) && !NEW_RULE.equals(rule)) {
+            throw new IllegalArgumentException("Unknown rule '" + rule + "', expected " + OLD_RULE + " or " + NEW_RULE);
+        }
+        return providersByRuleAndTranslationId.computeIfAbsent(rule + ',' + translationId, it -> NEW_RULE.equals(rule)
+                ? new NewMyCompanyHandBaggageInformationFactory(translationRepository, translationId)
+                : new OldMyCompanyHandBaggageInformationFactory(translationRepository, translationId));
+    }
+}
@@ -1,23 +1,80 @@
 package it.fbonfadelli.hand_baggage.policy;
 
+import it.fbonfadelli.hand_baggage.CarrierRuleIndex;
+import it.fbonfadelli.hand_baggage.DecisionTable;
+import it.fbonfadelli.hand_baggage.FeatureBasedPolicy;
 import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
 import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
 import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.model.FlightSummary;
+import it.fbonfadelli.translation.AsyncTranslationRepository;
 import it.fbonfadelli.translation.TranslationRepository;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 public class HandBaggagePoliciesFactory {
+    private static final long FIRST_OF_NOVEMBER = LocalDateTime.of(2018, 11, 1, 0, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    /**
+     * Fetches and renders the translations on every evaluation, so each call allocates its result. Pass factories made
+     * with {@code cachedPerLanguage} to {@link #make(NewMyCompanyHandBaggageInformationFactory, OldMyCompanyHandBaggageInformationFactory)}
+     * for evaluations that allocate nothing once a language has been built.
+     */
     public static List<HandBaggageInformationPolicy> make(TranslationRepository translationRepository) {
-        NewMyCompanyHandBaggageInformationFactory newMyCompanyHandBaggageInformationFactory =
-                new NewMyCompanyHandBaggageInformationFactory(translationRepository);
-        OldMyCompanyHandBaggageInformationFactory oldMyCompanyHandBaggageInformationFactory =
-                new OldMyCompanyHandBaggageInformationFactory(translationRepository);
+        return make(
+                new NewMyCompanyHandBaggageInformationFactory(translationRepository),
+                new OldMyCompanyHandBaggageInformationFactory(translationRepository)
+        );
+    }
+
+    public static List<HandBaggageInformationPolicy> makeAsync(AsyncTranslationRepository asyncTranslationRepository) {
+        return make(
+                NewMyCompanyHandBaggageInformationFactory.async(asyncTranslationRepository),
+                OldMyCompanyHandBaggageInformationFactory.async(asyncTranslationRepository)
+        );
+    }
+
+    public static List<HandBaggageInformationPolicy> make(NewMyCompanyHandBaggageInformationFactory newMyCompanyHandBaggageInformationFactory,
+                                                          OldMyCompanyHandBaggageInformationFactory oldMyCompanyHandBaggageInformationFactory) {
+        return new ArrayList<>(featureBasedPolicies(newMyCompanyHandBaggageInformationFactory, oldMyCompanyHandBaggageInformationFactory));
+    }
+
+    public static DecisionTable makeDecisionTable(TranslationRepository translationRepository) {
+        return makeDecisionTable(
+                new NewMyCompanyHandBaggageInformationFactory(translationRepository),
+                new OldMyCompanyHandBaggageInformationFactory(translationRepository)
+        );
+    }
+
+    public static DecisionTable makeDecisionTable(NewMyCompanyHandBaggageInformationFactory newMyCompanyHandBaggageInformationFactory,
+                                                  OldMyCompanyHandBaggageInformationFactory oldMyCompanyHandBaggageInformationFactory) {
+        return DecisionTable.compile(featureBasedPolicies(newMyCompanyHandBaggageInformationFactory, oldMyCompanyHandBaggageInformationFactory));
+    }
+
+    public static CarrierRuleIndex makeCarrierRuleIndex(TranslationRepository translationRepository) {
+        return makeCarrierRuleIndex(
+                new NewMyCompanyHandBaggageInformationFactory(translationRepository),
+                new OldMyCompanyHandBaggageInformationFactory(translationRepository)
+        );
+    }
+
+    public static CarrierRuleIndex makeCarrierRuleIndex(NewMyCompanyHandBaggageInformationFactory newMyCompanyHandBaggageInformationFactory,
+                                                        OldMyCompanyHandBaggageInformationFactory oldMyCompanyHandBaggageInformationFactory) {
+        return CarrierRuleIndex.builder()
+                .add(FlightSummary.MY_COMPANY_AIRLINE_ID, CarrierRuleIndex.ALWAYS, oldMyCompanyHandBaggageInformationFactory)
+                .add(FlightSummary.MY_COMPANY_AIRLINE_ID, FIRST_OF_NOVEMBER, newMyCompanyHandBaggageInformationFactory)
+                .build();
+    }
 
-        HandBaggageInformationPolicy myCompanyRoundTripAtLeastOneDepartureAfterTheFirstOfNovember =
+    private static List<FeatureBasedPolicy> featureBasedPolicies(NewMyCompanyHandBaggageInformationFactory newMyCompanyHandBaggageInformationFactory,
+                                                                 OldMyCompanyHandBaggageInformationFactory oldMyCompanyHandBaggageInformationFactory) {
+        FeatureBasedPolicy myCompanyRoundTripAtLeastOneDepartureAfterTheFirstOfNovember =
                 new MyCompanyAtLeastOneDepartureAfterTheFirstOfNovember(newMyCompanyHandBaggageInformationFactory);
-        HandBaggageInformationPolicy myCompanyRoundTripAllDeparturesBeforeTheFirstOfNovember = new
+        FeatureBasedPolicy myCompanyRoundTripAllDeparturesBeforeTheFirstOfNovember = new
                 MyCompanyAllDeparturesBeforeTheFirstOfNovember(oldMyCompanyHandBaggageInformationFactory);
 
         return Arrays.asList(
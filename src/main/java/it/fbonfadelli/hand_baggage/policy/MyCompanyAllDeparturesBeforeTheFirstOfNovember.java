@@ -1,14 +1,17 @@
 package it.fbonfadelli.hand_baggage.policy;
 
+import it.fbonfadelli.hand_baggage.FeatureBasedPolicy;
+import it.fbonfadelli.hand_baggage.FlightFeatures;
 import it.fbonfadelli.hand_baggage.HandBaggageInformation;
-import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
 import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
 import it.fbonfadelli.model.Flight;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
 
-public class MyCompanyAllDeparturesBeforeTheFirstOfNovember implements HandBaggageInformationPolicy {
-    private static final LocalDateTime FIRST_OF_NOVEMBER = LocalDateTime.of(2018, 11, 1, 0, 0, 0);
+public class MyCompanyAllDeparturesBeforeTheFirstOfNovember implements FeatureBasedPolicy {
+    private static final long FIRST_OF_NOVEMBER = LocalDateTime.of(2018, 11, 1, 0, 0, 0).toEpochSecond(ZoneOffset.UTC);
 
     private final OldMyCompanyHandBaggageInformationFactory oldMyCompanyHandBaggageInformationFactory;
 
@@ -21,8 +24,24 @@ public class MyCompanyAllDeparturesBeforeTheFirstOfNovember implements HandBagga
         return flight.isMyCompany() && flight.hasAllTheDeparturesBefore(FIRST_OF_NOVEMBER);
     }
 
+    @Override
+    public long cutoff() {
+        return FIRST_OF_NOVEMBER;
+    }
+
+    @Override
+    public boolean canHandle(int flightFeatures) {
+        return FlightFeatures.has(flightFeatures, FlightFeatures.MY_COMPANY)
+                && !FlightFeatures.hasAtLeastOneDepartureAfterCutoff(flightFeatures);
+    }
+
     @Override
     public HandBaggageInformation getFrom(String renderLanguage) {
         return oldMyCompanyHandBaggageInformationFactory.from(renderLanguage);
     }
+
+    @Override
+    public CompletableFuture<HandBaggageInformation> getFromAsync(String renderLanguage) {
+        return oldMyCompanyHandBaggageInformationFactory.fromAsync(renderLanguage);
+    }
 }
@@ -0,0 +1,67 @@
+package it.fbonfadelli.ingestion;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.model.Order;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+public class HandBaggageOrderFileProcessor {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final HandBaggageInformationFactory handBaggageInformationFactory;
+    private final OrderLineParser orderLineParser = new OrderLineParser();
+    private final String renderLanguage;
+
+    public HandBaggageOrderFileProcessor(HandBaggageInformationFactory handBaggageInformationFactory, String renderLanguage) {
+        this.handBaggageInformationFactory = handBaggageInformationFactory;
+        this.renderLanguage = renderLanguage;
+    }
+
+    public long process(Path orders, Path results) throws IOException {
+        try (Reader reader = new InputStreamReader(Files.newInputStream(orders), StandardCharsets.UTF_8);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(results), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            return process(reader, new TabSeparatedHandBaggageResultWriter(writer));
+        }
+    }
+
+    public long process(Reader orders, HandBaggageResultWriter results) throws IOException {
+        BufferedReader reader = new BufferedReader(orders, BUFFER_SIZE);
+        long lineNumber = 0;
+        long processedOrders = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+
+            Order order = parse(line, lineNumber);
+            for (Map.Entry<Integer, HandBaggageInformation> result : handBaggageInformationFactory.fromAll(order, renderLanguage).entrySet()) {
+                results.write(lineNumber, result.getKey(), result.getValue());
+            }
+            processedOrders++;
+        }
+
+        return processedOrders;
+    }
+
+    private Order parse(String line, long lineNumber) {
+        try {
+            return orderLineParser.parse(line);
+        } catch (OrderLineFormatException e) {
+            throw new OrderLineFormatException("Line " + lineNumber + ": " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package it.fbonfadelli.ingestion;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+
+import java.io.IOException;
+
+public interface HandBaggageResultWriter {
+    void write(long lineNumber, int flightId, HandBaggageInformation handBaggageInformation) throws IOException;
+}
@@ -0,0 +1,11 @@
+package it.fbonfadelli.ingestion;
+
+public class OrderLineFormatException extends RuntimeException {
+    OrderLineFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    OrderLineFormatException(String message) {
+        super(message);
+    }
+}
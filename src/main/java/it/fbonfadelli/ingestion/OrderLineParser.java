@@ -0,0 +1,127 @@
+package it.fbonfadelli.ingestion;
+
+import it.fbonfadelli.model.Airport;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Flights;
+import it.fbonfadelli.model.Hop;
+import it.fbonfadelli.model.HopFlight;
+import it.fbonfadelli.model.Hops;
+import it.fbonfadelli.model.Leg;
+import it.fbonfadelli.model.Legs;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.model.PlaceTime;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses one order per line:
+ * <pre>
+ * order  := flight ('|' flight)*
+ * flight := flightId ':' leg (';' leg)*
+ * leg    := hop (',' hop)*
+ * hop    := airlineId '@' departure
+ * </pre>
+ * where departure is an ISO local date-time, e.g.
+ * {@code 1:MY_COMPANY_AIRLINE_ID@2018-10-08T10:00;MY_COMPANY_AIRLINE_ID@2018-10-28T10:00|2:U2@2018-11-03T10:00}.
+ */
+public class OrderLineParser {
+    private static final char FLIGHT_SEPARATOR = '|';
+    private static final char FLIGHT_ID_SEPARATOR = ':';
+    private static final char LEG_SEPARATOR = ';';
+    private static final char HOP_SEPARATOR = ',';
+    private static final char DEPARTURE_SEPARATOR = '@';
+
+    public Order parse(String line) {
+        List<Flight> flights = new ArrayList<>();
+        int flightStart = 0;
+        while (flightStart <= line.length()) {
+            int flightEnd = indexOf(line, FLIGHT_SEPARATOR, flightStart, line.length());
+            flights.add(flight(line, flightStart, flightEnd));
+            flightStart = flightEnd + 1;
+        }
+
+        Order order = new Order();
+        order.getProducts().setFlights(new Flights(flights));
+        return order;
+    }
+
+    private static Flight flight(String line, int start, int end) {
+        int legsStart = indexOf(line, FLIGHT_ID_SEPARATOR, start, end) + 1;
+        if (legsStart > end) {
+            throw new OrderLineFormatException("Missing flight id in '" + line.substring(start, end) + "'");
+        }
+        int flightId = flightId(line, start, legsStart - 1);
+
+        List<Leg> legs = new ArrayList<>();
+        int legStart = legsStart;
+        while (legStart <= end) {
+            int legEnd = indexOf(line, LEG_SEPARATOR, legStart, end);
+            legs.add(leg(line, legStart, legEnd, flightId, legs.size() + 1));
+            legStart = legEnd + 1;
+        }
+
+        Flight flight = new Flight();
+        flight.setFlightId(flightId);
+        flight.setLegs(new Legs(legs));
+        return flight;
+    }
+
+    private static Leg leg(String line, int start, int end, int flightId, int legId) {
+        List<Hop> hops = new ArrayList<>();
+        int hopStart = start;
+        while (hopStart <= end) {
+            int hopEnd = indexOf(line, HOP_SEPARATOR, hopStart, end);
+            hops.add(hop(line, hopStart, hopEnd, flightId, legId, hops.size() + 1));
+            hopStart = hopEnd + 1;
+        }
+
+        Leg leg = new Leg();
+        leg.setFlightId(flightId);
+        leg.setLegId(legId);
+        leg.setStops(hops.size() - 1);
+        leg.setHops(new Hops(hops));
+        return leg;
+    }
+
+    private static Hop hop(String line, int start, int end, int flightId, int legId, int hopId) {
+        int departureStart = indexOf(line, DEPARTURE_SEPARATOR, start, end) + 1;
+        if (departureStart > end) {
+            throw new OrderLineFormatException("Missing departure in hop '" + line.substring(start, end) + "'");
+        }
+
+        HopFlight hopFlight = new HopFlight();
+        hopFlight.setAirlineId(line.substring(start, departureStart - 1));
+
+        Hop hop = new Hop();
+        hop.setFlightId(flightId);
+        hop.setLegId(legId);
+        hop.setHopId(hopId);
+        hop.setHopFlight(hopFlight);
+        hop.setDeparture(new PlaceTime(new Airport(), departure(line, departureStart, end), null));
+        return hop;
+    }
+
+    private static int flightId(String line, int start, int end) {
+        try {
+            return Integer.parseInt(line.substring(start, end));
+        } catch (NumberFormatException e) {
+            throw new OrderLineFormatException("Invalid flight id '" + line.substring(start, end) + "'", e);
+        }
+    }
+
+    private static LocalDateTime departure(String line, int start, int end) {
+        try {
+            return LocalDateTime.parse(line.substring(start, end));
+        } catch (DateTimeParseException e) {
+            throw new OrderLineFormatException("Invalid departure '" + line.substring(start, end) + "'", e);
+        }
+    }
+
+    private static int indexOf(String line, char separator, int from, int end) {
+        int index = line.indexOf(separator, from);
+        return index < 0 || index > end ? end : index;
+    }
+}
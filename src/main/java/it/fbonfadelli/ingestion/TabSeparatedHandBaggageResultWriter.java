@@ -0,0 +1,56 @@
+package it.fbonfadelli.ingestion;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public class TabSeparatedHandBaggageResultWriter implements HandBaggageResultWriter {
+    private final Writer writer;
+
+    public TabSeparatedHandBaggageResultWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(long lineNumber, int flightId, HandBaggageInformation handBaggageInformation) throws IOException {
+        writer.write(Long.toString(lineNumber));
+        writer.write('\t');
+        writer.write(Integer.toString(flightId));
+        writer.write('\t');
+        writer.write(Boolean.toString(handBaggageInformation.handBaggageAllowed));
+        writer.write('\t');
+        writeEscaped(handBaggageInformation.handBaggagePolicy);
+        writer.write('\t');
+        writeEscaped(handBaggageInformation.alert == null ? null : handBaggageInformation.alert.getTitle());
+        writer.write('\t');
+        writeEscaped(handBaggageInformation.alert == null ? null : handBaggageInformation.alert.getMessage());
+        writer.write('\n');
+    }
+
+    private void writeEscaped(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package it.fbonfadelli.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class AirlineRegistry {
+    public static final int UNKNOWN = -1;
+
+    private static final AirlineRegistry DEFAULT = new AirlineRegistry();
+
+    private final ConcurrentMap<String, Integer> indexesByAirlineId = new ConcurrentHashMap<>();
+    private volatile String[] airlineIdsByIndex = new String[64];
+    private volatile int size;
+
+    public static AirlineRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    public int register(String airlineId) {
+        if (airlineId == null) {
+            return UNKNOWN;
+        }
+
+        Integer index = indexesByAirlineId.get(airlineId);
+        if (index != null) {
+            return index;
+        }
+
+        synchronized (this) {
+            index = indexesByAirlineId.get(airlineId);
+            if (index != null) {
+                return index;
+            }
+
+            int newIndex = size;
+            String[] airlineIds = airlineIdsByIndex;
+            if (newIndex == airlineIds.length) {
+                airlineIds = Arrays.copyOf(airlineIds, airlineIds.length * 2);
+            }
+            airlineIds[newIndex] = airlineId;
+            airlineIdsByIndex = airlineIds;
+            indexesByAirlineId.put(airlineId, newIndex);
+            size = newIndex + 1;
+            return newIndex;
+        }
+    }
+
+    public int indexOf(String airlineId) {
+        if (airlineId == null) {
+            return UNKNOWN;
+        }
+
+        Integer index = indexesByAirlineId.get(airlineId);
+        return index == null ? UNKNOWN : index;
+    }
+
+    public String airlineIdOf(int index) {
+        String[] airlineIds = airlineIdsByIndex;
+        if (index < 0 || index >= airlineIds.length) {
+            return null;
+        }
+        return airlineIds[index];
+    }
+
+    // Only grows, so flight summaries compare it to notice carriers registered after they were computed.
+    public int size() {
+        return size;
+    }
+}
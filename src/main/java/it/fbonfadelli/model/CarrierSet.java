@@ -0,0 +1,146 @@
+package it.fbonfadelli.model;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class CarrierSet {
+    public static final CarrierSet EMPTY = new CarrierSet(0L, new long[0]);
+
+    private final long firstWord;
+    private final long[] otherWords;
+
+    private CarrierSet(long firstWord, long[] otherWords) {
+        this.firstWord = firstWord;
+        this.otherWords = otherWords;
+    }
+
+    public static CarrierSet of(int... airlineIndexes) {
+        CarrierSet carriers = EMPTY;
+        for (int airlineIndex : airlineIndexes) {
+            carriers = carriers.with(airlineIndex);
+        }
+        return carriers;
+    }
+
+    public boolean contains(int airlineIndex) {
+        if (airlineIndex < 64) {
+            return airlineIndex >= 0 && (firstWord & (1L << airlineIndex)) != 0;
+        }
+
+        int word = (airlineIndex >>> 6) - 1;
+        return word < otherWords.length && (otherWords[word] & (1L << airlineIndex)) != 0;
+    }
+
+    public int nextAirlineIndex(int fromIndex) {
+        int index = Math.max(fromIndex, 0);
+        for (int word = index >>> 6; word <= otherWords.length; word++) {
+            long bits = (word == 0 ? firstWord : otherWords[word - 1]) & (-1L << index);
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            index = 0;
+        }
+        return AirlineRegistry.UNKNOWN;
+    }
+
+    public boolean intersects(CarrierSet other) {
+        if ((firstWord & other.firstWord) != 0) {
+            return true;
+        }
+
+        int words = Math.min(otherWords.length, other.otherWords.length);
+        for (int word = 0; word < words; word++) {
+            if ((otherWords[word] & other.otherWords[word]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        if (firstWord != 0) {
+            return false;
+        }
+        for (long word : otherWords) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public CarrierSet with(int airlineIndex) {
+        if (airlineIndex < 0 || contains(airlineIndex)) {
+            return this;
+        }
+
+        if (airlineIndex < 64) {
+            return new CarrierSet(firstWord | (1L << airlineIndex), otherWords);
+        }
+
+        int word = (airlineIndex >>> 6) - 1;
+        long[] words = Arrays.copyOf(otherWords, Math.max(otherWords.length, word + 1));
+        words[word] |= 1L << airlineIndex;
+        return new CarrierSet(firstWord, words);
+    }
+
+    public CarrierSet union(CarrierSet other) {
+        long[] words = Arrays.copyOf(otherWords, Math.max(otherWords.length, other.otherWords.length));
+        for (int word = 0; word < other.otherWords.length; word++) {
+            words[word] |= other.otherWords[word];
+        }
+        return new CarrierSet(firstWord | other.firstWord, words);
+    }
+
+    public HashSet<String> toAirlineIds(AirlineRegistry airlineRegistry) {
+        HashSet<String> airlineIds = new HashSet<>();
+        addAirlineIds(airlineIds, airlineRegistry, firstWord, 0);
+        for (int word = 0; word < otherWords.length; word++) {
+            addAirlineIds(airlineIds, airlineRegistry, otherWords[word], (word + 1) << 6);
+        }
+        return airlineIds;
+    }
+
+    private static void addAirlineIds(Set<String> airlineIds, AirlineRegistry airlineRegistry, long word, int firstIndex) {
+        while (word != 0) {
+            int bit = Long.numberOfTrailingZeros(word);
+            airlineIds.add(airlineRegistry.airlineIdOf(firstIndex + bit));
+            word &= word - 1;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CarrierSet that = (CarrierSet) o;
+        int words = Math.max(otherWords.length, that.otherWords.length);
+        for (int word = 0; word < words; word++) {
+            if (wordAt(word) != that.wordAt(word)) {
+                return false;
+            }
+        }
+        return firstWord == that.firstWord;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = firstWord;
+        for (int word = 0; word < otherWords.length; word++) {
+            if (otherWords[word] != 0) {
+                hash = 31 * hash + otherWords[word] * (word + 1);
+            }
+        }
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private long wordAt(int word) {
+        return word < otherWords.length ? otherWords[word] : 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "CarrierSet" + toAirlineIds(AirlineRegistry.getDefault());
+    }
+}
@@ -1,35 +1,61 @@
 package it.fbonfadelli.model;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.HashSet;
 
 public class Flight {
-    private static final String MY_COMPANY_AIRLINE_ID = "MY_COMPANY_AIRLINE_ID";
-
     private int flightId;
     private Legs legs = new Legs();
+    private FlightSummary summary;
+    private final FlightVersion version = new FlightVersion();
+    private Flights owner;
 
     public Flight() {
+        legs.trackedBy(version);
     }
 
     public void setFlightId(int flightId) {
         this.flightId = flightId;
+        if (owner != null) {
+            owner.flightIdChanged();
+        }
     }
 
-    int getFlightId() {
+    public int getFlightId() {
         return flightId;
     }
 
     public void setLegs(Legs legs) {
         this.legs = legs;
+        if (legs != null) {
+            legs.trackedBy(version);
+        }
+        FlightVersion.changed(version);
+    }
+
+    void ownedBy(Flights owner) {
+        this.owner = owner;
     }
 
-    private Legs getLegs() {
+    public Legs getLegs() {
         return legs;
     }
 
+    // Recomputed after a change to this flight's legs, hops, departures or carriers, or to the registered carriers.
+    public FlightSummary getSummary() {
+        int flightVersion = version.get();
+        int registeredAirlines = AirlineRegistry.getDefault().size();
+        FlightSummary summary = this.summary;
+        if (summary == null || summary.flightVersion != flightVersion || summary.registeredAirlines != registeredAirlines) {
+            summary = FlightSummary.of(getLegs(), flightVersion, registeredAirlines);
+            this.summary = summary;
+        }
+        return summary;
+    }
+
     public boolean isOneWay() {
-        return legs.size() == 1;
+        return getSummary().isOneWay();
     }
 
     public Leg getFirstLeg() {
@@ -38,11 +64,14 @@ public class Flight {
 
     public HashSet<String> getAirlineIds() {
         HashSet<String> airlineIds = new HashSet<>();
-
         for (Leg leg : getLegs()) {
-            airlineIds.addAll(leg.getAirlineIds());
+            for (Hop hop : leg.getHops()) {
+                String airlineId = hop.getHopFlight().getAirlineId();
+                if (airlineId != null) {
+                    airlineIds.add(airlineId);
+                }
+            }
         }
-
         return airlineIds;
     }
 
@@ -59,15 +88,15 @@ public class Flight {
     }
 
     public LocalDateTime getOutboundDepartureDate() {
-        return getFirstLeg().getFirstHop().getDeparture().getDate();
+        return getOutboundLeg().getDeparture().getDate();
     }
 
     public boolean isMyCompany() {
-        return getAirlineIds().contains(MY_COMPANY_AIRLINE_ID);
+        return getSummary().isMyCompany();
     }
 
     public LocalDateTime getReturnDepartureDate() {
-        return getReturnLeg().getFirstHop().getDeparture().getDate();
+        return getReturnLeg().getDeparture().getDate();
     }
 
     public boolean hasAllTheDeparturesBefore(LocalDateTime aDate) {
@@ -75,14 +104,14 @@ public class Flight {
     }
 
     public boolean hasAtLeastOneDepartureAfter(LocalDateTime aDate) {
-        return hasDepartureDateAfter(aDate) || isRoundTripWithReturnTakeOffAfter(aDate);
+        return hasAtLeastOneDepartureAfter(aDate.toEpochSecond(ZoneOffset.UTC));
     }
 
-    private boolean isRoundTripWithReturnTakeOffAfter(LocalDateTime aDate) {
-        return !isOneWay() && getReturnDepartureDate().isAfter(aDate);
+    public boolean hasAllTheDeparturesBefore(long epochSecond) {
+        return !hasAtLeastOneDepartureAfter(epochSecond);
     }
 
-    private boolean hasDepartureDateAfter(LocalDateTime aDate) {
-        return getOutboundDepartureDate().isAfter(aDate);
+    public boolean hasAtLeastOneDepartureAfter(long epochSecond) {
+        return getSummary().getLatestDeparture() > epochSecond;
     }
 }
@@ -0,0 +1,7 @@
+package it.fbonfadelli.model;
+
+public class FlightNotFoundException extends RuntimeException {
+    FlightNotFoundException(int flightId) {
+        super("Flight " + flightId + " not found in the order");
+    }
+}
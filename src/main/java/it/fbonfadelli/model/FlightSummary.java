@@ -0,0 +1,129 @@
+package it.fbonfadelli.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+public final class FlightSummary {
+    public static final String MY_COMPANY_AIRLINE_ID = "MY_COMPANY_AIRLINE_ID";
+    public static final int MY_COMPANY_AIRLINE_INDEX = AirlineRegistry.getDefault().register(MY_COMPANY_AIRLINE_ID);
+
+    /**
+     * Departures are UTC epoch seconds rounded up, so "after" against a whole-second cutoff is a single {@code >};
+     * a missing departure is {@link Long#MIN_VALUE} and is never after anything.
+     */
+    public static final long NO_DEPARTURE = Long.MIN_VALUE;
+
+    private final CarrierSet carriers;
+    private final boolean myCompany;
+    private final int legCount;
+    private final long outboundDeparture;
+    private final long returnDeparture;
+    private final long latestReturnDeparture;
+    private final long earliestDeparture;
+    private final long latestDeparture;
+    final int flightVersion;
+    final int registeredAirlines;
+
+    private FlightSummary(int flightVersion, int registeredAirlines, CarrierSet carriers, int legCount,
+                          long outboundDeparture, long returnDeparture, long latestReturnDeparture,
+                          long earliestDeparture, long latestDeparture) {
+        this.flightVersion = flightVersion;
+        this.registeredAirlines = registeredAirlines;
+        this.carriers = carriers;
+        this.myCompany = carriers.contains(MY_COMPANY_AIRLINE_INDEX);
+        this.legCount = legCount;
+        this.outboundDeparture = outboundDeparture;
+        this.returnDeparture = returnDeparture;
+        this.latestReturnDeparture = latestReturnDeparture;
+        this.earliestDeparture = earliestDeparture;
+        this.latestDeparture = latestDeparture;
+    }
+
+    static FlightSummary of(List<Leg> legs, int flightVersion, int registeredAirlines) {
+        CarrierSet carriers = CarrierSet.EMPTY;
+        long earliestDeparture = NO_DEPARTURE;
+        long latestDeparture = NO_DEPARTURE;
+        long latestReturnDeparture = NO_DEPARTURE;
+
+        for (int position = 0; position < legs.size(); position++) {
+            Leg leg = legs.get(position);
+            carriers = carriers.union(leg.getCarriers());
+
+            long legDeparture = departureOf(leg);
+            if (earliestDeparture == NO_DEPARTURE || legDeparture < earliestDeparture) {
+                earliestDeparture = legDeparture;
+            }
+            latestDeparture = Math.max(latestDeparture, legDeparture);
+            if (position > 0) {
+                latestReturnDeparture = Math.max(latestReturnDeparture, legDeparture);
+            }
+        }
+
+        long outboundDeparture = legs.isEmpty() ? NO_DEPARTURE : departureOf(legs.get(0));
+        long returnDeparture = legs.size() < 2 ? NO_DEPARTURE : departureOf(legs.get(1));
+
+        return new FlightSummary(flightVersion, registeredAirlines, carriers, legs.size(), outboundDeparture, returnDeparture, latestReturnDeparture,
+                earliestDeparture, latestDeparture);
+    }
+
+    private static long departureOf(Leg leg) {
+        PlaceTime departure = leg.getDeparture();
+        return departure.hasDate() ? departure.getEpochSecondRoundedUp() : NO_DEPARTURE;
+    }
+
+    public CarrierSet getCarriers() {
+        return carriers;
+    }
+
+    // The registered carriers only; Flight.getAirlineIds() lists every airline.
+    public Set<String> getAirlineIds() {
+        return carriers.toAirlineIds(AirlineRegistry.getDefault());
+    }
+
+    public boolean isMyCompany() {
+        return myCompany;
+    }
+
+    public int getLegCount() {
+        return legCount;
+    }
+
+    public boolean isOneWay() {
+        return legCount == 1;
+    }
+
+    public long getOutboundDeparture() {
+        return outboundDeparture;
+    }
+
+    public long getReturnDeparture() {
+        return returnDeparture;
+    }
+
+    public long getLatestReturnDeparture() {
+        return latestReturnDeparture;
+    }
+
+    public long getEarliestDeparture() {
+        return earliestDeparture;
+    }
+
+    public long getLatestDeparture() {
+        return latestDeparture;
+    }
+
+    @Override
+    public String toString() {
+        return "FlightSummary{" +
+                "carriers=" + carriers +
+                ", legCount=" + legCount +
+                ", earliestDeparture=" + toString(earliestDeparture) +
+                ", latestDeparture=" + toString(latestDeparture) +
+                '}';
+    }
+
+    private static String toString(long departure) {
+        return departure == NO_DEPARTURE ? "none" : Instant.ofEpochSecond(departure).toString();
+    }
+}
@@ -0,0 +1,21 @@
+package it.fbonfadelli.model;
+
+/**
+ * Counts the changes to the legs, hops, departures and carriers of one {@link Flight}, so its cached
+ * {@link FlightSummary} is recomputed after a change to that flight and to nothing else. Every part added to a flight
+ * is handed the flight's version and bumps it when changed; a part shared between flights reports to the last one it
+ * was added to. Like the rest of the model, a flight is changed by one thread at a time.
+ */
+final class FlightVersion {
+    private int value;
+
+    int get() {
+        return value;
+    }
+
+    static void changed(FlightVersion flightVersion) {
+        if (flightVersion != null) {
+            flightVersion.value++;
+        }
+    }
+}
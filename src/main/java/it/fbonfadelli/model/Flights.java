@@ -1,14 +1,146 @@
 package it.fbonfadelli.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
+/**
+ * Orders with more than a handful of flights are searched through a sorted index of the flight ids. The index is
+ * dropped by every structural change, by {@link #set}, {@link #replaceAll} and {@link #sort}, and by
+ * {@link Flight#setFlightId} on a flight of this list: each flight reports its id changes to the last list it was added
+ * to. Iterators, list iterators and sub lists go through the overridden methods, except {@code subList(...).set}.
+ */
 public class Flights extends ArrayList<Flight> {
+    public static final int NOT_FOUND = -1;
+
+    private static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    private transient FlightIdIndex flightIdIndex;
+
     public Flights(List<Flight> flights) {
         super(flights);
+        ownAll(this);
     }
 
     Flights() {
         super();
     }
+
+    public int positionOf(int flightId) {
+        if (size() <= LINEAR_SCAN_THRESHOLD) {
+            for (int position = 0; position < size(); position++) {
+                if (get(position).getFlightId() == flightId) {
+                    return position;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        return flightIdIndex().positionOf(flightId);
+    }
+
+    @Override
+    public boolean add(Flight flight) {
+        own(flight);
+        return super.add(flight);
+    }
+
+    @Override
+    public void add(int index, Flight flight) {
+        own(flight);
+        super.add(index, flight);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Flight> flights) {
+        ownAll(flights);
+        return super.addAll(flights);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Flight> flights) {
+        ownAll(flights);
+        return super.addAll(index, flights);
+    }
+
+    @Override
+    public Flight set(int index, Flight flight) {
+        this.flightIdIndex = null;
+        own(flight);
+        return super.set(index, flight);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<Flight> operator) {
+        this.flightIdIndex = null;
+        super.replaceAll(operator);
+        ownAll(this);
+    }
+
+    @Override
+    public void sort(Comparator<? super Flight> comparator) {
+        this.flightIdIndex = null;
+        super.sort(comparator);
+    }
+
+    void flightIdChanged() {
+        this.flightIdIndex = null;
+    }
+
+    private void own(Flight flight) {
+        if (flight != null) {
+            flight.ownedBy(this);
+        }
+    }
+
+    private void ownAll(Collection<? extends Flight> flights) {
+        for (Flight flight : flights) {
+            own(flight);
+        }
+    }
+
+    private FlightIdIndex flightIdIndex() {
+        FlightIdIndex flightIdIndex = this.flightIdIndex;
+        if (flightIdIndex == null || flightIdIndex.modCount != modCount) {
+            flightIdIndex = new FlightIdIndex(this, modCount);
+            this.flightIdIndex = flightIdIndex;
+        }
+        return flightIdIndex;
+    }
+
+    private static final class FlightIdIndex {
+        private final int modCount;
+        private final long[] flightIdsAndPositions;
+
+        private FlightIdIndex(List<Flight> flights, int modCount) {
+            this.modCount = modCount;
+            this.flightIdsAndPositions = new long[flights.size()];
+            for (int position = 0; position < flightIdsAndPositions.length; position++) {
+                flightIdsAndPositions[position] = ((long) flights.get(position).getFlightId() << 32) | position;
+            }
+            Arrays.sort(flightIdsAndPositions);
+        }
+
+        private int positionOf(int flightId) {
+            long firstCandidate = (long) flightId << 32;
+            int low = 0;
+            int high = flightIdsAndPositions.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (flightIdsAndPositions[middle] < firstCandidate) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            if (low < flightIdsAndPositions.length && (int) (flightIdsAndPositions[low] >> 32) == flightId) {
+                return (int) flightIdsAndPositions[low];
+            }
+            return NOT_FOUND;
+        }
+    }
 }
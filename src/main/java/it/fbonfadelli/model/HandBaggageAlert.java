@@ -2,26 +2,25 @@ package it.fbonfadelli.model;
 
 import java.util.Objects;
 
-public class HandBaggageAlert {
-    private String title;
-    private String message;
+public final class HandBaggageAlert {
+    private final String title;
+    private final String message;
+    private final int hash;
 
-    public String getTitle() {
-        return title;
+    public HandBaggageAlert(String title, String message) {
+        this.title = title;
+        this.message = message;
+        this.hash = 31 * Objects.hashCode(title) + Objects.hashCode(message);
     }
 
-    public void setTitle(String title) {
-        this.title = title;
+    public String getTitle() {
+        return title;
     }
 
     public String getMessage() {
         return message;
     }
 
-    public void setMessage(String message) {
-        this.message = message;
-    }
-
     @Override
     public String toString() {
         return "HandBaggageAlert{" +
@@ -35,12 +34,13 @@ public class HandBaggageAlert {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         HandBaggageAlert that = (HandBaggageAlert) o;
-        return Objects.equals(title, that.title) &&
+        return hash == that.hash &&
+                Objects.equals(title, that.title) &&
                 Objects.equals(message, that.message);
     }
 
     @Override
     public int hashCode() {
-        return 0;
+        return hash;
     }
 }
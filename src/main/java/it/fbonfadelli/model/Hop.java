@@ -7,6 +7,7 @@ public class Hop {
     private PlaceTime departure;
     private PlaceTime arrival;
     private HopFlight hopFlight = new HopFlight();
+    private FlightVersion flightVersion;
 
     public PlaceTime getDeparture() {
         return departure;
@@ -30,6 +31,10 @@ public class Hop {
 
     public void setDeparture(PlaceTime departure) {
         this.departure = departure;
+        if (departure != null) {
+            departure.trackedBy(flightVersion);
+        }
+        FlightVersion.changed(flightVersion);
     }
 
     public void setArrival(PlaceTime arrival) {
@@ -38,5 +43,19 @@ public class Hop {
 
     public void setHopFlight(HopFlight hopFlight) {
         this.hopFlight = hopFlight;
+        if (hopFlight != null) {
+            hopFlight.trackedBy(flightVersion);
+        }
+        FlightVersion.changed(flightVersion);
+    }
+
+    void trackedBy(FlightVersion flightVersion) {
+        this.flightVersion = flightVersion;
+        if (departure != null) {
+            departure.trackedBy(flightVersion);
+        }
+        if (hopFlight != null) {
+            hopFlight.trackedBy(flightVersion);
+        }
     }
 }
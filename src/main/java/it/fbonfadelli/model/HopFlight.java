@@ -2,12 +2,30 @@ package it.fbonfadelli.model;
 
 public class HopFlight {
     private String airlineId;
+    private int airlineIndex = AirlineRegistry.UNKNOWN;
+    private FlightVersion flightVersion;
 
     public String getAirlineId() {
         return airlineId;
     }
 
+    // Only configured carriers are registered; the others stay unknown until they are.
+    public int getAirlineIndex() {
+        int airlineIndex = this.airlineIndex;
+        if (airlineIndex == AirlineRegistry.UNKNOWN && airlineId != null) {
+            airlineIndex = AirlineRegistry.getDefault().indexOf(airlineId);
+            this.airlineIndex = airlineIndex;
+        }
+        return airlineIndex;
+    }
+
     public void setAirlineId(String airlineId) {
         this.airlineId = airlineId;
+        this.airlineIndex = AirlineRegistry.getDefault().indexOf(airlineId);
+        FlightVersion.changed(flightVersion);
+    }
+
+    void trackedBy(FlightVersion flightVersion) {
+        this.flightVersion = flightVersion;
     }
 }
@@ -1,9 +1,8 @@
 package it.fbonfadelli.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
-public class Hops extends ArrayList<Hop> {
+public class Hops extends ModelList<Hop> {
     public Hops() {
     }
 
@@ -11,4 +10,10 @@ public class Hops extends ArrayList<Hop> {
         super(hops);
     }
 
+    @Override
+    void track(Hop hop, FlightVersion flightVersion) {
+        if (hop != null) {
+            hop.trackedBy(flightVersion);
+        }
+    }
 }
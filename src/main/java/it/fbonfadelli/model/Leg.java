@@ -1,13 +1,11 @@
 package it.fbonfadelli.model;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
 public class Leg {
     private int flightId;
     private int legId;
     private int stops;
     private Hops hops = new Hops();
+    private FlightVersion flightVersion;
 
     public int getFlightId() {
         return flightId;
@@ -45,16 +43,28 @@ public class Leg {
         return getFirstHop().getDeparture();
     }
 
-    Set<String> getAirlineIds() {
-        Set<String> airlineIds = getHops().stream()
-                .map(hop -> hop.getHopFlight().getAirlineId())
-                .collect(Collectors.toSet());
-
-        return airlineIds;
+    // Not cached: the flight caches the carriers of all its legs in its summary.
+    public CarrierSet getCarriers() {
+        CarrierSet carriers = CarrierSet.EMPTY;
+        for (Hop hop : getHops()) {
+            carriers = carriers.with(hop.getHopFlight().getAirlineIndex());
+        }
+        return carriers;
     }
 
     public void setHops(Hops hops) {
         this.hops = hops;
+        if (hops != null) {
+            hops.trackedBy(flightVersion);
+        }
+        FlightVersion.changed(flightVersion);
+    }
+
+    void trackedBy(FlightVersion flightVersion) {
+        this.flightVersion = flightVersion;
+        if (hops != null) {
+            hops.trackedBy(flightVersion);
+        }
     }
 }
 
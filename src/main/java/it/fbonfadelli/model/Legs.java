@@ -1,9 +1,8 @@
 package it.fbonfadelli.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
-public class Legs extends ArrayList<Leg> {
+public class Legs extends ModelList<Leg> {
 
     public Legs() {
     }
@@ -11,4 +10,11 @@ public class Legs extends ArrayList<Leg> {
     public Legs(List<Leg> legs) {
         super(legs);
     }
+
+    @Override
+    void track(Leg leg, FlightVersion flightVersion) {
+        if (leg != null) {
+            leg.trackedBy(flightVersion);
+        }
+    }
 }
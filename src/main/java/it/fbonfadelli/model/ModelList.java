@@ -0,0 +1,131 @@
+package it.fbonfadelli.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A list of legs or hops that reports its changes to its {@link FlightVersion}, and hands that version to the elements
+ * added to it. Iterators, list iterators and sub lists go through the overridden methods, except
+ * {@code subList(...).set}.
+ */
+abstract class ModelList<E> extends ArrayList<E> {
+    private FlightVersion flightVersion;
+
+    ModelList() {
+    }
+
+    ModelList(List<E> elements) {
+        super(elements);
+    }
+
+    @Override
+    public boolean add(E element) {
+        changed();
+        track(element, flightVersion);
+        return super.add(element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        changed();
+        track(element, flightVersion);
+        super.add(index, element);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        changed();
+        trackAll(elements);
+        return super.addAll(elements);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        changed();
+        trackAll(elements);
+        return super.addAll(index, elements);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        changed();
+        track(element, flightVersion);
+        return super.set(index, element);
+    }
+
+    @Override
+    public E remove(int index) {
+        changed();
+        return super.remove(index);
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        changed();
+        return super.remove(element);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        changed();
+        return super.removeAll(elements);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        changed();
+        return super.retainAll(elements);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        changed();
+        return super.removeIf(filter);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        changed();
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public void clear() {
+        changed();
+        super.clear();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        changed();
+        super.replaceAll(operator);
+        trackAll(this);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        changed();
+        super.sort(comparator);
+    }
+
+    void trackedBy(FlightVersion flightVersion) {
+        this.flightVersion = flightVersion;
+        trackAll(this);
+    }
+
+    abstract void track(E element, FlightVersion flightVersion);
+
+    private void trackAll(Collection<? extends E> elements) {
+        for (E element : elements) {
+            track(element, flightVersion);
+        }
+    }
+
+    private void changed() {
+        FlightVersion.changed(flightVersion);
+    }
+}
@@ -22,8 +22,26 @@ public class Order {
         return products.getOutboundLeg();
     }
 
+    public Flights getFlights() {
+        return products.getFlights();
+    }
+
+    public boolean hasFlight(int flightId) {
+        return products.getFlights().positionOf(flightId) != Flights.NOT_FOUND;
+    }
+
+    public Flight getFlight(int flightId) {
+        Flights flights = products.getFlights();
+        int position = flights.positionOf(flightId);
+        if (position == Flights.NOT_FOUND) {
+            throw new FlightNotFoundException(flightId);
+        }
+        return flights.get(position);
+    }
+
     public Flight findFlight(int flightId) {
-        return products.getFlights().stream().filter(flight -> flight.getFlightId() == flightId).findFirst()
-                .orElse(null);
+        Flights flights = products.getFlights();
+        int position = flights.positionOf(flightId);
+        return position == Flights.NOT_FOUND ? null : flights.get(position);
     }
 }
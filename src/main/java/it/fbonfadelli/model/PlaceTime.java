@@ -1,31 +1,111 @@
 package it.fbonfadelli.model;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 
+/**
+ * Keeps the date as the UTC epoch second and nanos of the instant plus the local offset, so comparisons against a
+ * cutoff are plain integer comparisons on the same time line whatever the airport's time zone. The offset is derived
+ * from the ISO instant (or offset date-time) given as {@code dateUtc}; when that is missing or not ISO the local date
+ * is taken to be UTC.
+ */
 public class PlaceTime {
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int MAX_OFFSET_SECONDS = 18 * 60 * 60;
+
     private Airport airport;
-    private LocalDateTime date;
-    private String dateUtc;
+    private long epochSecond;
+    private int nano;
+    private int offsetSeconds;
+    private FlightVersion flightVersion;
 
     public PlaceTime(Airport airport, LocalDateTime date, String dateUtc) {
         this.airport = airport;
-        this.date = date;
-        this.dateUtc = dateUtc;
+        this.offsetSeconds = offsetSeconds(date, dateUtc);
+        setDate(date);
     }
 
     public LocalDateTime getDate() {
-        return date;
+        if (epochSecond == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond + offsetSeconds, nano, ZoneOffset.UTC);
     }
 
     public void setDate(LocalDateTime date) {
-        this.date = date;
+        if (date == null) {
+            this.epochSecond = NO_DATE;
+            this.nano = 0;
+        } else {
+            this.epochSecond = date.toEpochSecond(ZoneOffset.UTC) - offsetSeconds;
+            this.nano = date.getNano();
+        }
+        FlightVersion.changed(flightVersion);
     }
 
     public String getDateUtc() {
-        return dateUtc;
+        if (epochSecond == NO_DATE) {
+            return null;
+        }
+        return Instant.ofEpochSecond(epochSecond, nano).toString();
+    }
+
+    public ZoneOffset getOffset() {
+        return ZoneOffset.ofTotalSeconds(offsetSeconds);
+    }
+
+    public boolean hasDate() {
+        return epochSecond != NO_DATE;
+    }
+
+    public long getEpochSecond() {
+        return epochSecond;
+    }
+
+    public int getNano() {
+        return nano;
+    }
+
+    // Rounding up keeps "isAfter" comparisons against whole-second cutoffs exact.
+    public long getEpochSecondRoundedUp() {
+        return nano == 0 ? epochSecond : epochSecond + 1;
+    }
+
+    public boolean isAfter(long epochSecond) {
+        return hasDate() && getEpochSecondRoundedUp() > epochSecond;
     }
 
     public Airport getAirport() {
         return airport;
     }
+
+    void trackedBy(FlightVersion flightVersion) {
+        this.flightVersion = flightVersion;
+    }
+
+    private static int offsetSeconds(LocalDateTime date, String dateUtc) {
+        if (date == null || dateUtc == null) {
+            return 0;
+        }
+        Instant instant = parseInstant(dateUtc);
+        if (instant == null) {
+            return 0;
+        }
+        long offset = date.toEpochSecond(ZoneOffset.UTC) - instant.getEpochSecond();
+        return Math.abs(offset) <= MAX_OFFSET_SECONDS ? (int) offset : 0;
+    }
+
+    private static Instant parseInstant(String dateUtc) {
+        if (dateUtc.length() < 16 || dateUtc.charAt(10) != 'T') {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(dateUtc).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package it.fbonfadelli.translation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link TranslationRepository}, so that callers needing several keys can request all of
+ * them at once and pay a single round trip. Implementations must be thread-safe.
+ */
+public interface AsyncTranslationRepository {
+    CompletableFuture<String> retrieve(String key, String language);
+
+    default CompletableFuture<Map<String, String>> retrieveAll(Collection<String> keys, String language) {
+        List<String> requestedKeys = new ArrayList<>(keys);
+        List<CompletableFuture<String>> translations = new ArrayList<>(requestedKeys.size());
+        for (String key : requestedKeys) {
+            translations.add(retrieve(key, language));
+        }
+
+        return CompletableFuture.allOf(translations.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<String, String> translationByKey = new LinkedHashMap<>();
+            for (int i = 0; i < requestedKeys.size(); i++) {
+                translationByKey.put(requestedKeys.get(i), translations.get(i).join());
+            }
+            return translationByKey;
+        });
+    }
+
+    static AsyncTranslationRepository from(TranslationRepository translationRepository, Executor executor) {
+        return (key, language) -> CompletableFuture.supplyAsync(() -> translationRepository.retrieve(key, language), executor);
+    }
+
+    static TranslationRepository blocking(AsyncTranslationRepository asyncTranslationRepository) {
+        return new TranslationRepository() {
+            @Override
+            public String retrieve(String key, String language) {
+                return join(asyncTranslationRepository.retrieve(key, language));
+            }
+
+            @Override
+            public Map<String, String> retrieveAll(Collection<String> keys, String language) {
+                return join(asyncTranslationRepository.retrieveAll(keys, language));
+            }
+        };
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
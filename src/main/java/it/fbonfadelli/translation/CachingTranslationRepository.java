@@ -0,0 +1,309 @@
+package it.fbonfadelli.translation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, least recently used cache in front of a {@link TranslationRepository}. Capacity evictions and expirations
+ * after write are counted apart. A load that races an invalidation of its segment is returned to the caller but not
+ * cached, so an invalidated translation is never put back by a load that started before the invalidation.
+ */
+public class CachingTranslationRepository implements TranslationRepository {
+    private final TranslationRepository delegate;
+    private final Segment[] segments;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    private CachingTranslationRepository(TranslationRepository delegate, long maximumSize, int concurrencyLevel,
+                                         long expireAfterWriteNanos, LongSupplier ticker) {
+        this.delegate = delegate;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.ticker = ticker;
+
+        int segmentCount = segmentCount(concurrencyLevel, maximumSize);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+    }
+
+    public static Builder builder(TranslationRepository delegate) {
+        return new Builder(delegate);
+    }
+
+    @Override
+    public String retrieve(String key, String language) {
+        TranslationFetchEvent event = JfrSupport.isAvailable() ? TranslationFetchEvent.beginIfEnabled() : null;
+        TranslationKey translationKey = new TranslationKey(key, language);
+        Segment segment = segmentFor(translationKey);
+
+        String cached = segment.get(translationKey);
+        if (cached != null) {
+            hits.increment();
+            if (event != null) {
+                event.commit(key, language, TranslationFetchEvent.HIT);
+            }
+            return cached;
+        }
+
+        misses.increment();
+        long invalidations = segment.invalidations();
+        long loadStart = ticker.getAsLong();
+        String translation = delegate.retrieve(key, language);
+        long loadEnd = ticker.getAsLong();
+        totalLoadTimeNanos.add(loadEnd - loadStart);
+
+        if (translation != null) {
+            segment.put(translationKey, translation, loadEnd, invalidations);
+        }
+        if (event != null) {
+            event.commit(key, language, TranslationFetchEvent.MISS);
+        }
+        return translation;
+    }
+
+    @Override
+    public Map<String, String> retrieveAll(Collection<String> keys, String language) {
+        TranslationFetchEvent event = JfrSupport.isAvailable() ? TranslationFetchEvent.beginIfEnabled() : null;
+        Map<String, String> translations = new LinkedHashMap<>();
+        List<String> missingKeys = new ArrayList<>();
+        long[] invalidations = new long[keys.size()];
+        for (String key : keys) {
+            if (translations.containsKey(key)) {
+                continue;
+            }
+            TranslationKey translationKey = new TranslationKey(key, language);
+            Segment segment = segmentFor(translationKey);
+            String cached = segment.get(translationKey);
+            if (cached != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                invalidations[missingKeys.size()] = segment.invalidations();
+                missingKeys.add(key);
+            }
+            translations.put(key, cached);
+        }
+
+        if (missingKeys.isEmpty()) {
+            if (event != null) {
+                event.commit(keys, language, TranslationFetchEvent.HIT);
+            }
+            return translations;
+        }
+
+        long loadStart = ticker.getAsLong();
+        Map<String, String> loaded = delegate.retrieveAll(missingKeys, language);
+        long loadEnd = ticker.getAsLong();
+        totalLoadTimeNanos.add(loadEnd - loadStart);
+
+        for (int i = 0; i < missingKeys.size(); i++) {
+            String key = missingKeys.get(i);
+            String translation = loaded.get(key);
+            if (translation != null) {
+                TranslationKey translationKey = new TranslationKey(key, language);
+                segmentFor(translationKey).put(translationKey, translation, loadEnd, invalidations[i]);
+            }
+            translations.put(key, translation);
+        }
+        if (event != null) {
+            event.commit(keys, language, missingKeys.size() == translations.size() ? TranslationFetchEvent.MISS : TranslationFetchEvent.PARTIAL_HIT);
+        }
+        return translations;
+    }
+
+    public void invalidate(String key, String language) {
+        TranslationKey translationKey = new TranslationKey(key, language);
+        segmentFor(translationKey).remove(translationKey);
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public TranslationCacheStats stats() {
+        return new TranslationCacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), totalLoadTimeNanos.sum());
+    }
+
+    private Segment segmentFor(TranslationKey translationKey) {
+        int hash = translationKey.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private static int segmentCount(int concurrencyLevel, long maximumSize) {
+        int segmentCount = 1;
+        while (segmentCount < concurrencyLevel && segmentCount * 2L <= maximumSize) {
+            segmentCount <<= 1;
+        }
+        return segmentCount;
+    }
+
+    private static final class Entry {
+        private final String translation;
+        private final long writtenAtNanos;
+
+        private Entry(String translation, long writtenAtNanos) {
+            this.translation = translation;
+            this.writtenAtNanos = writtenAtNanos;
+        }
+    }
+
+    private final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<TranslationKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long capacity;
+        private long invalidations;
+
+        private Segment(long capacity) {
+            this.capacity = capacity;
+        }
+
+        private String get(TranslationKey translationKey) {
+            lock.lock();
+            try {
+                Entry entry = entries.get(translationKey);
+                if (entry == null) {
+                    return null;
+                }
+                if (isExpired(entry)) {
+                    entries.remove(translationKey);
+                    expirations.increment();
+                    return null;
+                }
+                return entry.translation;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long invalidations() {
+            lock.lock();
+            try {
+                return invalidations;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void put(TranslationKey translationKey, String translation, long writtenAtNanos, long invalidationsBeforeLoad) {
+            lock.lock();
+            try {
+                if (invalidations != invalidationsBeforeLoad) {
+                    return;
+                }
+                entries.put(translationKey, new Entry(translation, writtenAtNanos));
+                Iterator<Map.Entry<TranslationKey, Entry>> leastRecentlyUsed = entries.entrySet().iterator();
+                while (entries.size() > capacity) {
+                    leastRecentlyUsed.next();
+                    leastRecentlyUsed.remove();
+                    evictions.increment();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(TranslationKey translationKey) {
+            lock.lock();
+            try {
+                entries.remove(translationKey);
+                invalidations++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+                invalidations++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isExpired(Entry entry) {
+            return expireAfterWriteNanos > 0 && ticker.getAsLong() - entry.writtenAtNanos >= expireAfterWriteNanos;
+        }
+    }
+
+    public static class Builder {
+        private final TranslationRepository delegate;
+        private long maximumSize = 10_000;
+        private int concurrencyLevel = 16;
+        private long expireAfterWriteNanos = 0;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(TranslationRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        public Builder withMaximumSize(long maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("The maximum size must be positive, was " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder withConcurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel <= 0) {
+                throw new IllegalArgumentException("The concurrency level must be positive, was " + concurrencyLevel);
+            }
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        public Builder withExpireAfterWrite(Duration expireAfterWrite) {
+            if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+                throw new IllegalArgumentException("The expire after write must be positive, was " + expireAfterWrite);
+            }
+            this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+            return this;
+        }
+
+        Builder withTicker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public CachingTranslationRepository build() {
+            return new CachingTranslationRepository(delegate, maximumSize, concurrencyLevel, expireAfterWriteNanos, ticker);
+        }
+    }
+}
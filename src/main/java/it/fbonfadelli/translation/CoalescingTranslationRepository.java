@@ -0,0 +1,123 @@
+package it.fbonfadelli.translation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets concurrent misses for the same key and language share a single load of the delegate: the first caller loads,
+ * the others wait for its translation or its failure. Nothing is kept once the load completes, so this is meant to sit
+ * between a {@link CachingTranslationRepository} and the remote catalog.
+ */
+public class CoalescingTranslationRepository implements TranslationRepository {
+    private final TranslationRepository delegate;
+    private final ConcurrentMap<TranslationKey, CompletableFuture<String>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+
+    public CoalescingTranslationRepository(TranslationRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String retrieve(String key, String language) {
+        TranslationKey translationKey = new TranslationKey(key, language);
+
+        CompletableFuture<String> inFlightLoad = inFlightLoads.get(translationKey);
+        if (inFlightLoad == null) {
+            CompletableFuture<String> load = new CompletableFuture<>();
+            inFlightLoad = inFlightLoads.putIfAbsent(translationKey, load);
+            if (inFlightLoad == null) {
+                return load(translationKey, load);
+            }
+        }
+
+        coalescedCalls.increment();
+        return AsyncTranslationRepository.join(inFlightLoad);
+    }
+
+    @Override
+    public Map<String, String> retrieveAll(Collection<String> keys, String language) {
+        Map<String, CompletableFuture<String>> translations = new LinkedHashMap<>();
+        Map<TranslationKey, CompletableFuture<String>> ownLoads = new LinkedHashMap<>();
+        for (String key : keys) {
+            TranslationKey translationKey = new TranslationKey(key, language);
+            CompletableFuture<String> load = new CompletableFuture<>();
+            CompletableFuture<String> inFlightLoad = inFlightLoads.putIfAbsent(translationKey, load);
+            if (inFlightLoad == null) {
+                ownLoads.put(translationKey, load);
+                translations.put(key, load);
+            } else {
+                coalescedCalls.increment();
+                translations.put(key, inFlightLoad);
+            }
+        }
+
+        if (!ownLoads.isEmpty()) {
+            loadAll(ownLoads, language);
+        }
+
+        Map<String, String> translationByKey = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<String>> translation : translations.entrySet()) {
+            translationByKey.put(translation.getKey(), AsyncTranslationRepository.join(translation.getValue()));
+        }
+        return translationByKey;
+    }
+
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    public long coalescedCallCount() {
+        return coalescedCalls.sum();
+    }
+
+    public int inFlightLoadCount() {
+        return inFlightLoads.size();
+    }
+
+    private String load(TranslationKey translationKey, CompletableFuture<String> load) {
+        loads.increment();
+        try {
+            String translation = delegate.retrieve(translationKey.getKey(), translationKey.getLanguage());
+            load.complete(translation);
+            return translation;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(translationKey, load);
+        }
+    }
+
+    private void loadAll(Map<TranslationKey, CompletableFuture<String>> ownLoads, String language) {
+        loads.add(ownLoads.size());
+        List<String> keys = new ArrayList<>(ownLoads.size());
+        for (TranslationKey translationKey : ownLoads.keySet()) {
+            keys.add(translationKey.getKey());
+        }
+
+        try {
+            Map<String, String> translations = delegate.retrieveAll(keys, language);
+            for (Map.Entry<TranslationKey, CompletableFuture<String>> load : ownLoads.entrySet()) {
+                load.getValue().complete(translations.get(load.getKey().getKey()));
+            }
+        } catch (RuntimeException | Error e) {
+            for (CompletableFuture<String> load : ownLoads.values()) {
+                load.completeExceptionally(e);
+            }
+            throw e;
+        } finally {
+            for (Map.Entry<TranslationKey, CompletableFuture<String>> load : ownLoads.entrySet()) {
+                inFlightLoads.remove(load.getKey(), load.getValue());
+            }
+        }
+    }
+}
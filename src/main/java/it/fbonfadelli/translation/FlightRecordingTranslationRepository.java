@@ -0,0 +1,32 @@
+package it.fbonfadelli.translation;
+
+import java.util.Collection;
+import java.util.Map;
+
+public class FlightRecordingTranslationRepository implements TranslationRepository {
+    private final TranslationRepository delegate;
+
+    public FlightRecordingTranslationRepository(TranslationRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String retrieve(String key, String language) {
+        TranslationFetchEvent event = JfrSupport.isAvailable() ? TranslationFetchEvent.beginIfEnabled() : null;
+        String translation = delegate.retrieve(key, language);
+        if (event != null) {
+            event.commit(key, language, null);
+        }
+        return translation;
+    }
+
+    @Override
+    public Map<String, String> retrieveAll(Collection<String> keys, String language) {
+        TranslationFetchEvent event = JfrSupport.isAvailable() ? TranslationFetchEvent.beginIfEnabled() : null;
+        Map<String, String> translations = delegate.retrieveAll(keys, language);
+        if (event != null) {
+            event.commit(keys, language, null);
+        }
+        return translations;
+    }
+}
@@ -0,0 +1,25 @@
+package it.fbonfadelli.translation;
+
+/**
+ * Whether the runtime ships the {@code jdk.jfr} API. The flight recorder events extend {@code jdk.jfr.Event}, which a
+ * Java 8 runtime may lack, so they are only loaded once this returns true.
+ */
+public final class JfrSupport {
+    private static final boolean AVAILABLE = jfrEventIsLoadable();
+
+    private JfrSupport() {
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    private static boolean jfrEventIsLoadable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package it.fbonfadelli.translation;
+
+public class TranslationCacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final long totalLoadTimeNanos;
+
+    TranslationCacheStats(long hitCount, long missCount, long evictionCount, long expirationCount, long totalLoadTimeNanos) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public double getAverageLoadPenaltyNanos() {
+        return missCount == 0 ? 0.0 : (double) totalLoadTimeNanos / missCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationCacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", expirationCount=" + expirationCount +
+                ", totalLoadTimeNanos=" + totalLoadTimeNanos +
+                '}';
+    }
+}
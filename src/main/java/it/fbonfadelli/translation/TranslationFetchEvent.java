@@ -0,0 +1,72 @@
+package it.fbonfadelli.translation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.Collection;
+
+/**
+ * Emitted by {@link CachingTranslationRepository}, with the outcome of the cache lookup, and by
+ * {@link FlightRecordingTranslationRepository} for any other repository. The key of a bulk lookup lists all the keys.
+ * Callers check {@link JfrSupport#isAvailable()} before {@link #beginIfEnabled()}, so nothing loads this class on a
+ * runtime without JFR.
+ */
+@Name(TranslationFetchEvent.NAME)
+@Label("Translation Fetch")
+@Category("Hand Baggage")
+@Description("Lookup of translations in a TranslationRepository")
+@Threshold("20 ms")
+@StackTrace(false)
+class TranslationFetchEvent extends Event {
+    static final String NAME = "it.fbonfadelli.TranslationFetch";
+    static final String HIT = "hit";
+    static final String MISS = "miss";
+    static final String PARTIAL_HIT = "partial hit";
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(TranslationFetchEvent.class);
+
+    @Label("Key")
+    String key;
+
+    @Label("Language")
+    String language;
+
+    @Label("Cache")
+    @Description("hit, miss or partial hit when the lookup went through a cache")
+    String cache;
+
+    static TranslationFetchEvent beginIfEnabled() {
+        if (!EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        TranslationFetchEvent event = new TranslationFetchEvent();
+        event.begin();
+        return event;
+    }
+
+    void commit(String key, String language, String cache) {
+        end();
+        if (shouldCommit()) {
+            this.key = key;
+            this.language = language;
+            this.cache = cache;
+            commit();
+        }
+    }
+
+    void commit(Collection<String> keys, String language, String cache) {
+        end();
+        if (shouldCommit()) {
+            this.key = String.join(",", keys);
+            this.language = language;
+            this.cache = cache;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package it.fbonfadelli.translation;
+
+import java.util.Objects;
+
+final class TranslationKey {
+    private final String key;
+    private final String language;
+    private final int hash;
+
+    TranslationKey(String key, String language) {
+        this.key = key;
+        this.language = language;
+        this.hash = 31 * Objects.hashCode(key) + Objects.hashCode(language);
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getLanguage() {
+        return language;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TranslationKey that = (TranslationKey) o;
+        return hash == that.hash &&
+                Objects.equals(key, that.key) &&
+                Objects.equals(language, that.language);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationKey{" +
+                "key='" + key + '\'' +
+                ", language='" + language + '\'' +
+                '}';
+    }
+}
@@ -1,6 +1,24 @@
 package it.fbonfadelli.translation;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Implementations are shared by every factory and thread that renders hand baggage information, so they must be
+ * thread-safe.
+ */
 public interface TranslationRepository
 {
   String retrieve(String key, String language);
+
+  default Map<String, String> retrieveAll(Collection<String> keys, String language)
+  {
+    Map<String, String> translations = new LinkedHashMap<>();
+    for (String key : keys)
+    {
+      translations.put(key, retrieve(key, language));
+    }
+    return translations;
+  }
 }
@@ -0,0 +1,43 @@
+package it.fbonfadelli.translation.catalog;
+
+final class CatalogHash {
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private CatalogHash() {
+    }
+
+    static long hash(String key, String language) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+        hash *= FNV_PRIME;
+        for (int i = 0; i < language.length(); i++) {
+            hash = (hash ^ language.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    static int bucket(long hash, int bucketCount) {
+        return reduce(mix(hash), bucketCount);
+    }
+
+    static int slot(long hash, int seed, int slotCount) {
+        return reduce(mix(hash ^ seed * GOLDEN_RATIO), slotCount);
+    }
+
+    private static int mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    private static int reduce(int hash, int range) {
+        return (int) (((hash & 0xFFFFFFFFL) * range) >>> 32);
+    }
+}
@@ -0,0 +1,85 @@
+package it.fbonfadelli.translation.catalog;
+
+import it.fbonfadelli.translation.TranslationRepository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only catalog mapped from a file written by {@link TranslationCatalogBuilder}.
+ * <p>
+ * The file holds a minimal perfect hash over (key, language): a header, one displacement seed per bucket, one fixed
+ * size slot per translation and a blob with the UTF-8 key, language and value of every slot. A lookup hashes the key
+ * twice, reads the slot and checks the stored key before decoding the value, so unknown keys return {@code null}.
+ * Nothing is loaded on the heap when opening, and the pages are shared by every JVM mapping the same file.
+ */
+public final class MappedTranslationCatalog implements TranslationRepository {
+    static final int MAGIC = 0x48425443;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int SEED_SIZE = 4;
+    static final int SLOT_SIZE = 12;
+
+    private final ByteBuffer buffer;
+    private final int entryCount;
+    private final int bucketCount;
+    private final int slotsOffset;
+    private final int blobOffset;
+
+    private MappedTranslationCatalog(ByteBuffer buffer, int entryCount, int bucketCount) {
+        this.buffer = buffer;
+        this.entryCount = entryCount;
+        this.bucketCount = bucketCount;
+        this.slotsOffset = HEADER_SIZE + bucketCount * SEED_SIZE;
+        this.blobOffset = slotsOffset + entryCount * SLOT_SIZE;
+    }
+
+    public static MappedTranslationCatalog open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is not a translation catalog");
+            }
+
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException(path + " is not a translation catalog");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException(path + " has unsupported catalog version " + buffer.getInt(4));
+            }
+            return new MappedTranslationCatalog(buffer, buffer.getInt(8), buffer.getInt(12));
+        }
+    }
+
+    @Override
+    public String retrieve(String key, String language) {
+        if (key == null || language == null || entryCount == 0) {
+            return null;
+        }
+
+        long hash = CatalogHash.hash(key, language);
+        int seed = buffer.getInt(HEADER_SIZE + CatalogHash.bucket(hash, bucketCount) * SEED_SIZE);
+        int slot = seed < 0 ? -seed - 1 : CatalogHash.slot(hash, seed, entryCount);
+
+        int slotPosition = slotsOffset + slot * SLOT_SIZE;
+        int entryPosition = blobOffset + buffer.getInt(slotPosition);
+        int keyEnd = entryPosition + buffer.getInt(slotPosition + 4);
+        int valueLength = buffer.getInt(slotPosition + 8);
+
+        int position = Utf8.match(buffer, entryPosition, keyEnd, key);
+        if (position < 0 || position >= keyEnd || buffer.get(position) != 0) {
+            return null;
+        }
+        if (Utf8.match(buffer, position + 1, keyEnd, language) != keyEnd) {
+            return null;
+        }
+        return Utf8.decode(buffer, keyEnd, valueLength);
+    }
+
+    public int size() {
+        return entryCount;
+    }
+}
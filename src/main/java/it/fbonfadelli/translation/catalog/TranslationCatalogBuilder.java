@@ -0,0 +1,223 @@
+package it.fbonfadelli.translation.catalog;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Builds the file read by {@link MappedTranslationCatalog} from translations added one by one, from CSV catalogs with
+ * {@code language,key,value} lines or from {@code <language>.properties} files.
+ * <p>
+ * Usage: {@code TranslationCatalogBuilder <catalog> <csv or properties>...}
+ */
+public class TranslationCatalogBuilder {
+    private static final int AVERAGE_BUCKET_SIZE = 4;
+    private static final int MAXIMUM_SEED = 1 << 20;
+    private static final String PROPERTIES_EXTENSION = ".properties";
+
+    private final Map<String, Translation> translations = new LinkedHashMap<>();
+
+    public TranslationCatalogBuilder add(String key, String language, String value) {
+        if (key.indexOf('\0') >= 0 || language.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("Keys and languages cannot contain NUL characters: " + key + "@" + language);
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Missing translation for " + key + "@" + language);
+        }
+        translations.put(key + '\0' + language, new Translation(key, language, value));
+        return this;
+    }
+
+    public TranslationCatalogBuilder addCsv(Path csv) throws IOException {
+        try (Reader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            return addCsv(reader);
+        }
+    }
+
+    public TranslationCatalogBuilder addCsv(Reader csv) throws IOException {
+        BufferedReader reader = new BufferedReader(csv);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+
+            String[] columns = line.split(",", 3);
+            if (columns.length < 3) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected language,key,value but was " + line);
+            }
+            add(columns[1], columns[0], columns[2]);
+        }
+        return this;
+    }
+
+    public TranslationCatalogBuilder addProperties(Path properties) throws IOException {
+        String fileName = properties.getFileName().toString();
+        if (!fileName.endsWith(PROPERTIES_EXTENSION)) {
+            throw new IllegalArgumentException("Expected a <language>.properties file but was " + properties);
+        }
+        try (Reader reader = Files.newBufferedReader(properties, StandardCharsets.UTF_8)) {
+            return addProperties(reader, fileName.substring(0, fileName.length() - PROPERTIES_EXTENSION.length()));
+        }
+    }
+
+    public TranslationCatalogBuilder addProperties(Reader properties, String language) throws IOException {
+        Properties loaded = new Properties();
+        loaded.load(properties);
+        for (String key : loaded.stringPropertyNames()) {
+            add(key, language, loaded.getProperty(key));
+        }
+        return this;
+    }
+
+    public int size() {
+        return translations.size();
+    }
+
+    public void writeTo(Path catalog) throws IOException {
+        List<Translation> entries = new ArrayList<>(translations.values());
+        int bucketCount = Math.max(1, entries.size() / AVERAGE_BUCKET_SIZE);
+        int[] seeds = new int[bucketCount];
+        Translation[] slots = placeInSlots(entries, seeds);
+
+        long catalogSize = MappedTranslationCatalog.HEADER_SIZE
+                + (long) seeds.length * MappedTranslationCatalog.SEED_SIZE
+                + (long) slots.length * MappedTranslationCatalog.SLOT_SIZE;
+        for (Translation translation : slots) {
+            catalogSize += translation.encodedKey.length + translation.encodedValue.length;
+        }
+        if (catalogSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The catalog would take " + catalogSize + " bytes, more than a single mapping can hold");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(catalog), 1 << 16))) {
+            out.writeInt(MappedTranslationCatalog.MAGIC);
+            out.writeInt(MappedTranslationCatalog.VERSION);
+            out.writeInt(slots.length);
+            out.writeInt(bucketCount);
+            for (int seed : seeds) {
+                out.writeInt(seed);
+            }
+
+            int blobOffset = 0;
+            for (Translation translation : slots) {
+                out.writeInt(blobOffset);
+                out.writeInt(translation.encodedKey.length);
+                out.writeInt(translation.encodedValue.length);
+                blobOffset += translation.encodedKey.length + translation.encodedValue.length;
+            }
+            for (Translation translation : slots) {
+                out.write(translation.encodedKey);
+                out.write(translation.encodedValue);
+            }
+        }
+    }
+
+    private static Translation[] placeInSlots(List<Translation> entries, int[] seeds) {
+        List<List<Translation>> buckets = new ArrayList<>(seeds.length);
+        for (int i = 0; i < seeds.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (Translation translation : entries) {
+            buckets.get(CatalogHash.bucket(translation.hash, seeds.length)).add(translation);
+        }
+
+        Integer[] bucketsBySize = new Integer[seeds.length];
+        for (int i = 0; i < bucketsBySize.length; i++) {
+            bucketsBySize[i] = i;
+        }
+        Arrays.sort(bucketsBySize, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+
+        Translation[] slots = new Translation[entries.size()];
+        int nextFreeSlot = 0;
+        for (int bucket : bucketsBySize) {
+            List<Translation> bucketEntries = buckets.get(bucket);
+            if (bucketEntries.size() > 1) {
+                seeds[bucket] = displace(bucketEntries, slots);
+            } else if (bucketEntries.size() == 1) {
+                while (slots[nextFreeSlot] != null) {
+                    nextFreeSlot++;
+                }
+                slots[nextFreeSlot] = bucketEntries.get(0);
+                seeds[bucket] = -nextFreeSlot - 1;
+            }
+        }
+        return slots;
+    }
+
+    private static int displace(List<Translation> bucketEntries, Translation[] slots) {
+        int[] candidateSlots = new int[bucketEntries.size()];
+        for (int seed = 1; seed <= MAXIMUM_SEED; seed++) {
+            if (fitsWith(seed, bucketEntries, slots, candidateSlots)) {
+                for (int i = 0; i < candidateSlots.length; i++) {
+                    slots[candidateSlots[i]] = bucketEntries.get(i);
+                }
+                return seed;
+            }
+        }
+        throw new IllegalStateException("Could not find a perfect hash for a bucket of " + bucketEntries.size() + " translations");
+    }
+
+    private static boolean fitsWith(int seed, List<Translation> bucketEntries, Translation[] slots, int[] candidateSlots) {
+        for (int i = 0; i < candidateSlots.length; i++) {
+            Translation translation = bucketEntries.get(i);
+            int slot = CatalogHash.slot(translation.hash, seed, slots.length);
+            if (slots[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (candidateSlots[j] == slot) {
+                    return false;
+                }
+            }
+            candidateSlots[i] = slot;
+        }
+        return true;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TranslationCatalogBuilder <catalog> <csv or properties>...");
+            System.exit(1);
+        }
+
+        TranslationCatalogBuilder builder = new TranslationCatalogBuilder();
+        for (int i = 1; i < args.length; i++) {
+            Path source = Paths.get(args[i]);
+            if (source.getFileName().toString().endsWith(PROPERTIES_EXTENSION)) {
+                builder.addProperties(source);
+            } else {
+                builder.addCsv(source);
+            }
+        }
+        Path catalog = Paths.get(args[0]);
+        builder.writeTo(catalog);
+        System.out.printf("%,d translations written to %s (%,d bytes)%n", builder.size(), catalog, Files.size(catalog));
+    }
+
+    private static final class Translation {
+        private final long hash;
+        private final byte[] encodedKey;
+        private final byte[] encodedValue;
+
+        private Translation(String key, String language, String value) {
+            this.hash = CatalogHash.hash(key, language);
+            this.encodedKey = Utf8.encode(key + '\0' + language);
+            this.encodedValue = Utf8.encode(value);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package it.fbonfadelli.translation.catalog;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 straight from and to {@link ByteBuffer}s, without an intermediate array. Unpaired surrogates are written as
+ * {@code '?'}, like {@link String#getBytes}, so the bytes always match {@code s.getBytes(StandardCharsets.UTF_8)}.
+ */
+public final class Utf8 {
+    private static final byte UNENCODABLE = '?';
+
+    private Utf8() {
+    }
+
+    public static int length(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    static byte[] encode(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the bytes of an {@link #isAscii} string from {@code position} without moving the buffer's position, and
+     * returns the position after them. Heap buffers get a bulk copy. The caller checks that they fit.
+     */
+    @SuppressWarnings("deprecation")
+    public static int encodeAscii(String s, ByteBuffer buffer, int position) {
+        if (buffer.hasArray()) {
+            s.getBytes(0, s.length(), buffer.array(), buffer.arrayOffset() + position);
+            return position + s.length();
+        }
+        for (int i = 0; i < s.length(); i++) {
+            buffer.put(position++, (byte) s.charAt(i));
+        }
+        return position;
+    }
+
+    /**
+     * Writes the {@link #length} bytes of {@code s} from {@code position} without moving the buffer's position, and
+     * returns the position after them. The caller checks that they fit.
+     */
+    public static int encode(String s, ByteBuffer buffer, int position) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                buffer.put(position++, (byte) c);
+            } else if (c < 0x800) {
+                buffer.put(position++, (byte) (0xC0 | c >> 6));
+                buffer.put(position++, (byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                buffer.put(position++, (byte) (0xF0 | codePoint >> 18));
+                buffer.put(position++, (byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put(position++, (byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put(position++, (byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put(position++, UNENCODABLE);
+            } else {
+                buffer.put(position++, (byte) (0xE0 | c >> 12));
+                buffer.put(position++, (byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put(position++, (byte) (0x80 | c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    static int match(ByteBuffer buffer, int position, int end, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if (position >= end || buffer.get(position++) != (byte) c) {
+                    return -1;
+                }
+            } else if (c < 0x800) {
+                if (end - position < 2
+                        || buffer.get(position++) != (byte) (0xC0 | c >> 6)
+                        || buffer.get(position++) != (byte) (0x80 | c & 0x3F)) {
+                    return -1;
+                }
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                if (end - position < 4
+                        || buffer.get(position++) != (byte) (0xF0 | codePoint >> 18)
+                        || buffer.get(position++) != (byte) (0x80 | codePoint >> 12 & 0x3F)
+                        || buffer.get(position++) != (byte) (0x80 | codePoint >> 6 & 0x3F)
+                        || buffer.get(position++) != (byte) (0x80 | codePoint & 0x3F)) {
+                    return -1;
+                }
+            } else if (Character.isSurrogate(c)) {
+                if (position >= end || buffer.get(position++) != UNENCODABLE) {
+                    return -1;
+                }
+            } else {
+                if (end - position < 3
+                        || buffer.get(position++) != (byte) (0xE0 | c >> 12)
+                        || buffer.get(position++) != (byte) (0x80 | c >> 6 & 0x3F)
+                        || buffer.get(position++) != (byte) (0x80 | c & 0x3F)) {
+                    return -1;
+                }
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Heap buffers are decoded in place.
+     */
+    public static String decode(ByteBuffer buffer, int position, int length) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(position + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
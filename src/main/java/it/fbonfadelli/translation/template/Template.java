@@ -0,0 +1,152 @@
+package it.fbonfadelli.translation.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A translation parsed once into literal segments and {@code {{name}}} placeholders. Rendering binds the placeholders
+ * by name, appending to a builder reused by the rendering thread and sized from the precomputed length; placeholders
+ * without a value are rendered as they were written, exactly like {@link String#replace} would leave them.
+ */
+public final class Template {
+    private static final String OPENING = "{{";
+    private static final String CLOSING = "}}";
+    private static final int MAXIMUM_REUSED_CAPACITY = 1 << 13;
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final String source;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private Template(String source, String[] literals, String[] placeholders) {
+        this.source = source;
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.literalLength = literalLength;
+    }
+
+    public static Template compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int literalStart = 0;
+        int i = source.indexOf(OPENING);
+        while (i >= 0) {
+            int nameEnd = source.indexOf(CLOSING, i + OPENING.length());
+            if (nameEnd < 0) {
+                break;
+            }
+            String name = source.substring(i + OPENING.length(), nameEnd);
+            if (isPlaceholderName(name)) {
+                literals.add(source.substring(literalStart, i));
+                placeholders.add(name);
+                literalStart = nameEnd + CLOSING.length();
+                i = source.indexOf(OPENING, literalStart);
+            } else {
+                i = source.indexOf(OPENING, i + 1);
+            }
+        }
+        literals.add(source.substring(literalStart));
+
+        return new Template(source, literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public List<String> placeholders() {
+        List<String> names = new ArrayList<>();
+        for (String placeholder : placeholders) {
+            if (!names.contains(placeholder)) {
+                names.add(placeholder);
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    public String render(String name, String value) {
+        Objects.requireNonNull(value, name);
+        if (placeholders.length == 0) {
+            return source;
+        }
+
+        int length = literalLength;
+        for (String placeholder : placeholders) {
+            length += placeholder.equals(name) ? value.length() : OPENING.length() + placeholder.length() + CLOSING.length();
+        }
+
+        StringBuilder builder = builder(length);
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            if (placeholders[i].equals(name)) {
+                builder.append(value);
+            } else {
+                appendPlaceholder(builder, placeholders[i]);
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    public String render(Function<String, String> values) {
+        if (placeholders.length == 0) {
+            return source;
+        }
+
+        int length = literalLength;
+        for (String placeholder : placeholders) {
+            String value = values.apply(placeholder);
+            length += value != null ? value.length() : OPENING.length() + placeholder.length() + CLOSING.length();
+        }
+
+        StringBuilder builder = builder(length);
+        builder.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.apply(placeholders[i]);
+            if (value != null) {
+                builder.append(value);
+            } else {
+                appendPlaceholder(builder, placeholders[i]);
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    private static StringBuilder builder(int length) {
+        StringBuilder builder = BUILDER.get();
+        if (builder.capacity() > MAXIMUM_REUSED_CAPACITY) {
+            builder = new StringBuilder(length);
+            BUILDER.set(builder);
+        }
+        builder.setLength(0);
+        builder.ensureCapacity(length);
+        return builder;
+    }
+
+    private static void appendPlaceholder(StringBuilder builder, String name) {
+        builder.append(OPENING).append(name).append(CLOSING);
+    }
+
+    private static boolean isPlaceholderName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '{' || c == '}') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package it.fbonfadelli.translation.template;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled templates by language and translation key. A cached template is reused only while the translation it was
+ * compiled from is unchanged, so an updated catalog is picked up on the next render.
+ */
+public class TemplateCache {
+    private final ConcurrentMap<String, ConcurrentMap<String, Template>> templatesByLanguage = new ConcurrentHashMap<>();
+
+    public Template get(String key, String language, String source) {
+        if (key == null || language == null) {
+            return Template.compile(source);
+        }
+
+        ConcurrentMap<String, Template> templates = templatesByLanguage.get(language);
+        if (templates == null) {
+            templates = templatesByLanguage.computeIfAbsent(language, ignored -> new ConcurrentHashMap<>());
+        }
+
+        Template template = templates.get(key);
+        if (template == null || !sameSource(template, source)) {
+            template = Template.compile(source);
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    public void invalidate() {
+        templatesByLanguage.clear();
+    }
+
+    private static boolean sameSource(Template template, String source) {
+        return template.source() == source || template.source().equals(source);
+    }
+}
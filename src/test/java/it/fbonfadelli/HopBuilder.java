@@ -48,4 +48,10 @@ public class HopBuilder
     this.departure.setDate(date);
     return this;
   }
+
+  public HopBuilder withDeparture(PlaceTime departure)
+  {
+    this.departure = departure;
+    return this;
+  }
 }
@@ -0,0 +1,53 @@
+package it.fbonfadelli;
+
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Hop;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+
+public class RandomFlights {
+    private static final String[] AIRLINE_IDS = {"MY_COMPANY_AIRLINE_ID", "::not_my_company::", "U2"};
+    private static final LocalDateTime FIRST_OF_NOVEMBER = LocalDateTime.of(2018, 11, 1, 0, 0, 0);
+
+    private final Random random;
+
+    public RandomFlights(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public Flight aFlight(int flightId, int maximumLegs) {
+        FlightBuilder flight = FlightBuilder.aFlight().withFlightId(flightId);
+        int legs = 1 + random.nextInt(maximumLegs);
+        for (int leg = 0; leg < legs; leg++) {
+            int hops = 1 + random.nextInt(3);
+            Hop[] legHops = new Hop[hops];
+            for (int hop = 0; hop < hops; hop++) {
+                legHops[hop] = aHop()
+                        .withAirlineId(AIRLINE_IDS[random.nextInt(AIRLINE_IDS.length)])
+                        .withDepartureTime(aDepartureAroundTheFirstOfNovember())
+                        .build();
+            }
+            flight.addLeg(aLeg().withHops(legHops).build());
+        }
+        return flight.build();
+    }
+
+    public Flight[] someFlights(int maximumFlights, int maximumLegs) {
+        Flight[] flights = new Flight[1 + random.nextInt(maximumFlights)];
+        for (int flight = 0; flight < flights.length; flight++) {
+            flights[flight] = aFlight(flight + 1, maximumLegs);
+        }
+        return flights;
+    }
+
+    private LocalDateTime aDepartureAroundTheFirstOfNovember() {
+        if (random.nextInt(10) == 0) {
+            return FIRST_OF_NOVEMBER;
+        }
+        return FIRST_OF_NOVEMBER.plusHours(random.nextInt(24 * 60) - 24 * 30);
+    }
+}
@@ -0,0 +1,24 @@
+package it.fbonfadelli;
+
+import it.fbonfadelli.translation.TranslationRepository;
+import org.mockito.stubbing.Answer;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TranslationAnswers {
+
+    public static Answer<Map<String, String>> retrievingEachKeyFrom(TranslationRepository translationRepository) {
+        return invocation -> {
+            @SuppressWarnings("unchecked")
+            Collection<String> keys = (Collection<String>) invocation.getArguments()[0];
+            String language = (String) invocation.getArguments()[1];
+            Map<String, String> translations = new LinkedHashMap<>();
+            for (String key : keys) {
+                translations.put(key, translationRepository.retrieve(key, language));
+            }
+            return translations;
+        };
+    }
+}
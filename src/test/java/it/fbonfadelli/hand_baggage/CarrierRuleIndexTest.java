@@ -0,0 +1,120 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static it.fbonfadelli.FlightBuilder.aFlight;
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CarrierRuleIndexTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final int RANDOM_ORDERS = 10_000;
+    private static final LocalDateTime SPRING = LocalDateTime.of(2019, 3, 31, 0, 0);
+    private static final LocalDateTime AUTUMN = LocalDateTime.of(2019, 10, 27, 0, 0);
+
+    private final TranslationRepository translationRepository = (key, language) -> key + "{{link}}@" + language;
+
+    private final HandBaggageInformationProvider winter2018 = language -> null;
+    private final HandBaggageInformationProvider summer2019 = language -> null;
+    private final HandBaggageInformationProvider winter2019 = language -> null;
+    private final HandBaggageInformationProvider anotherCarrier = language -> null;
+
+    @Test
+    public void givesTheSameResultsOfThePolicyChain() {
+        HandBaggageInformationFactory chain = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.make(translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        HandBaggageInformationFactory carrierRuleIndex = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.makeCarrierRuleIndex(translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        RandomFlights randomFlights = new RandomFlights(20181101L);
+
+        for (int i = 0; i < RANDOM_ORDERS; i++) {
+            Order order = OrderBuilder.anOrder().withFlights(randomFlights.aFlight(1, 3)).build();
+
+            assertThat(carrierRuleIndex.from(order, A_RENDER_LANGUAGE, 1), is(chain.from(order, A_RENDER_LANGUAGE, 1)));
+        }
+    }
+
+    @Test
+    public void selectsTheRuleInForceAtTheLatestDeparture() {
+        CarrierRuleIndex index = CarrierRuleIndex.builder()
+                .add("XY", epochSecond(AUTUMN), winter2019)
+                .add("XY", epochSecond(SPRING.minusYears(1).plusMonths(7)), winter2018)
+                .add("XY", epochSecond(SPRING), summer2019)
+                .build();
+
+        assertThat(index.select(aFlightOf("XY", SPRING.minusYears(1))), is(nullValue()));
+        assertThat(providerOf(index.select(aFlightOf("XY", SPRING))), is(sameInstance(winter2018)));
+        assertThat(providerOf(index.select(aFlightOf("XY", SPRING.plusSeconds(1)))), is(sameInstance(summer2019)));
+        assertThat(providerOf(index.select(aFlightOf("XY", AUTUMN))), is(sameInstance(summer2019)));
+        assertThat(providerOf(index.select(aFlightOf("XY", AUTUMN.plusYears(5)))), is(sameInstance(winter2019)));
+        assertThat(index.select(aFlightOf("ZZ", AUTUMN.plusDays(1))), is(nullValue()));
+    }
+
+    @Test
+    public void reportsThePositionOfTheSelectedRule() {
+        CarrierRuleIndex index = CarrierRuleIndex.builder()
+                .add("BB", epochSecond(AUTUMN), anotherCarrier)
+                .add("XY", epochSecond(AUTUMN), winter2019)
+                .add("XY", epochSecond(SPRING), summer2019)
+                .build();
+
+        assertThat(index.selectPosition(aFlightOf("XY", SPRING)), is(IndexedPolicySelector.NONE));
+        assertThat(providerOf(index.policies().get(index.selectPosition(aFlightOf("XY", AUTUMN)))), is(sameInstance(summer2019)));
+        assertThat(providerOf(index.policies().get(index.selectPosition(aFlightOf("XY", AUTUMN.plusDays(1))))), is(sameInstance(winter2019)));
+        assertThat(providerOf(index.policies().get(index.selectPosition(aFlightOf("BB", AUTUMN.plusDays(1))))), is(sameInstance(anotherCarrier)));
+    }
+
+    @Test
+    public void prefersTheCarrierAddedFirstAmongTheOnesWithARuleInForce() {
+        CarrierRuleIndex index = CarrierRuleIndex.builder()
+                .add("BB", epochSecond(AUTUMN), anotherCarrier)
+                .add("AA", CarrierRuleIndex.ALWAYS, summer2019)
+                .build();
+
+        Flight bothAfterAutumn = aFlight().addLeg(aLeg().withHops(
+                aHop().withAirlineId("AA").withDepartureTime(AUTUMN.plusDays(1)).build(),
+                aHop().withAirlineId("BB").withDepartureTime(AUTUMN.plusDays(1)).build()
+        ).build()).build();
+
+        Flight bothBeforeAutumn = aFlight().addLeg(aLeg().withHops(
+                aHop().withAirlineId("AA").withDepartureTime(AUTUMN).build(),
+                aHop().withAirlineId("BB").withDepartureTime(AUTUMN).build()
+        ).build()).build();
+
+        assertThat(providerOf(index.select(bothAfterAutumn)), is(sameInstance(anotherCarrier)));
+        assertThat(providerOf(index.select(bothBeforeAutumn)), is(sameInstance(summer2019)));
+        assertThat(providerOf(index.select(aFlightOf("AA", AUTUMN.plusDays(1)))), is(sameInstance(summer2019)));
+        assertThat(index.select(bothAfterAutumn).canHandle(bothAfterAutumn), is(true));
+    }
+
+    private static Flight aFlightOf(String airlineId, LocalDateTime departure) {
+        return aFlight().addLeg(aLeg().withHops(aHop().withAirlineId(airlineId).withDepartureTime(departure).build()).build()).build();
+    }
+
+    private static HandBaggageInformationProvider providerOf(HandBaggageInformationPolicy policy) {
+        return ((CarrierRuleIndex.Rule) policy).provider();
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,54 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DecisionTableTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final int RANDOM_ORDERS = 10_000;
+
+    private final TranslationRepository translationRepository = (key, language) -> key + "{{link}}@" + language;
+
+    private final HandBaggageInformationFactory chain = new HandBaggageInformationFactory(
+            HandBaggagePoliciesFactory.make(translationRepository),
+            new NotMyCompanyHandBaggageInformationFactory()
+    );
+    private final HandBaggageInformationFactory decisionTable = new HandBaggageInformationFactory(
+            HandBaggagePoliciesFactory.makeDecisionTable(translationRepository),
+            new NotMyCompanyHandBaggageInformationFactory()
+    );
+
+    @Test
+    public void givesTheSameResultsOfThePolicyChain() {
+        RandomFlights randomFlights = new RandomFlights(20181101L);
+
+        for (int i = 0; i < RANDOM_ORDERS; i++) {
+            Order order = OrderBuilder.anOrder().withFlights(randomFlights.aFlight(1, 3)).build();
+
+            assertThat(decisionTable.from(order, A_RENDER_LANGUAGE, 1), is(chain.from(order, A_RENDER_LANGUAGE, 1)));
+        }
+    }
+
+    @Test
+    public void reportsThePositionOfTheSelectedPolicy() {
+        DecisionTable table = HandBaggagePoliciesFactory.makeDecisionTable(translationRepository);
+        RandomFlights randomFlights = new RandomFlights(20181101L);
+
+        for (int i = 0; i < RANDOM_ORDERS; i++) {
+            Flight flight = randomFlights.aFlight(1, 3);
+            int position = table.selectPosition(flight);
+
+            assertThat(position == IndexedPolicySelector.NONE ? null : table.policies().get(position), is(table.select(flight)));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.FlightSummary;
+import it.fbonfadelli.model.Order;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static it.fbonfadelli.FlightBuilder.aFlight;
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HandBaggageEvaluationEventTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+
+    private final HandBaggageInformationFactory factory = new HandBaggageInformationFactory(
+            HandBaggagePoliciesFactory.make((key, language) -> key + "{{link}}@" + language),
+            new NotMyCompanyHandBaggageInformationFactory()
+    );
+    private final Order order = OrderBuilder.anOrder().withFlights(
+            flight(1, FlightSummary.MY_COMPANY_AIRLINE_ID),
+            flight(2, "U2")
+    ).build();
+
+    @Test
+    public void recordsThePolicySelectedForEveryEvaluation() throws Exception {
+        List<RecordedEvent> events = recordEvaluations(Duration.ZERO);
+
+        assertThat(events.size(), is(2));
+        assertThat(events.get(0).getString("policy"), is("MyCompanyAtLeastOneDepartureAfterTheFirstOfNovember"));
+        assertThat(events.get(0).getInt("flightId"), is(1));
+        assertThat(events.get(0).getString("renderLanguage"), is(A_RENDER_LANGUAGE));
+        assertThat(events.get(1).getString("policy"), is(HandBaggageEvaluationEvent.FALLBACK));
+        assertThat(events.get(1).getInt("flightId"), is(2));
+    }
+
+    @Test
+    public void recordsOnlyTheEvaluationsOverTheThreshold() throws Exception {
+        assertThat(recordEvaluations(Duration.ofHours(1)).size(), is(0));
+    }
+
+    private List<RecordedEvent> recordEvaluations(Duration threshold) throws Exception {
+        Path dump = Files.createTempFile("hand-baggage", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HandBaggageEvaluationEvent.NAME).withThreshold(threshold);
+            recording.start();
+            factory.from(order, A_RENDER_LANGUAGE, 1);
+            factory.from(order, A_RENDER_LANGUAGE, 2);
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+                if (event.getEventType().getName().equals(HandBaggageEvaluationEvent.NAME)) {
+                    events.add(event);
+                }
+            }
+            events.sort((first, second) -> first.getStartTime().compareTo(second.getStartTime()));
+            return events;
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    private static Flight flight(int flightId, String airlineId) {
+        return aFlight().withFlightId(flightId)
+                .addLeg(aLeg().withHops(aHop().withAirlineId(airlineId).withDepartureTime(LocalDateTime.of(2018, 12, 1, 10, 0)).build()).build())
+                .build();
+    }
+}
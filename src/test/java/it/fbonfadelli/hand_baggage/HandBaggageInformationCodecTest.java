@@ -0,0 +1,122 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.HandBaggageAlert;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HandBaggageInformationCodecTest {
+
+    private static final int RANDOM_RESULTS = 10_000;
+    private static final String[] SAMPLE_CHARACTERS = {"a", "Z", "<", "\"", "\u00e8", "\u00df", "\u20ac", "\u4e2d", "\uD83D\uDE00", "\uD800", "\uDC00", " "};
+
+    private final Random random = new Random(20181101L);
+
+    @Test
+    public void decodesWhatItEncodes() {
+        ByteBuffer heap = ByteBuffer.allocate(1 << 16);
+        ByteBuffer direct = ByteBuffer.allocateDirect(1 << 16);
+
+        for (int i = 0; i < RANDOM_RESULTS; i++) {
+            HandBaggageInformation handBaggageInformation = randomHandBaggageInformation();
+            for (ByteBuffer buffer : new ByteBuffer[]{heap, direct}) {
+                buffer.clear().position(random.nextInt(16));
+                int start = buffer.position();
+
+                HandBaggageInformationCodec.encode(handBaggageInformation, buffer);
+                assertThat(buffer.position() - start, is(HandBaggageInformationCodec.encodedSize(handBaggageInformation)));
+
+                buffer.flip().position(start);
+                assertThat(HandBaggageInformationCodec.decode(buffer), is(asUtf8RoundTrips(handBaggageInformation)));
+                assertThat(buffer.hasRemaining(), is(false));
+            }
+        }
+    }
+
+    @Test
+    public void writesStringsAsUtf8() {
+        String policy = "\u00e8 \uD83D\uDE00";
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        HandBaggageInformationCodec.encode(new HandBaggageInformation(null, true, policy), buffer);
+
+        byte[] utf8 = policy.getBytes(StandardCharsets.UTF_8);
+        assertThat(buffer.position(), is(3 + utf8.length));
+        assertThat(buffer.get(0), is(HandBaggageInformationCodec.VERSION));
+        assertThat((int) buffer.get(2), is(utf8.length));
+        byte[] written = new byte[utf8.length];
+        buffer.position(3);
+        buffer.get(written);
+        assertThat(written, is(utf8));
+    }
+
+    @Test
+    public void writesUnpairedSurrogatesAsQuestionMarks() {
+        String policy = "\uDC00a\uD800";
+        byte[] utf8 = policy.getBytes(StandardCharsets.UTF_8);
+
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            HandBaggageInformationCodec.encode(new HandBaggageInformation(null, true, policy), buffer);
+
+            assertThat(buffer.position(), is(3 + utf8.length));
+            byte[] written = new byte[utf8.length];
+            buffer.position(3);
+            buffer.get(written);
+            assertThat(written, is(new byte[]{'?', 'a', '?'}));
+        }
+    }
+
+    @Test
+    public void keepsThePositionWhenTheResultDoesNotFit() {
+        HandBaggageInformation handBaggageInformation = new HandBaggageInformation(new HandBaggageAlert("::title::", "::message::"), false, "::policy::");
+        ByteBuffer buffer = ByteBuffer.allocate(HandBaggageInformationCodec.encodedSize(handBaggageInformation) - 1);
+
+        try {
+            HandBaggageInformationCodec.encode(handBaggageInformation, buffer);
+        } catch (BufferOverflowException e) {
+            assertThat(buffer.position(), is(0));
+            return;
+        }
+        throw new AssertionError("Expected a BufferOverflowException");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnotherVersion() {
+        HandBaggageInformationCodec.decode(ByteBuffer.wrap(new byte[]{HandBaggageInformationCodec.VERSION + 1, 0}));
+    }
+
+    private static HandBaggageInformation asUtf8RoundTrips(HandBaggageInformation handBaggageInformation) {
+        HandBaggageAlert alert = handBaggageInformation.alert;
+        return new HandBaggageInformation(
+                alert == null ? null : new HandBaggageAlert(asUtf8RoundTrips(alert.getTitle()), asUtf8RoundTrips(alert.getMessage())),
+                handBaggageInformation.handBaggageAllowed,
+                asUtf8RoundTrips(handBaggageInformation.handBaggagePolicy));
+    }
+
+    private static String asUtf8RoundTrips(String s) {
+        return s == null ? null : new String(s.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+    private HandBaggageInformation randomHandBaggageInformation() {
+        HandBaggageAlert alert = random.nextBoolean() ? null : new HandBaggageAlert(randomString(), randomString());
+        return new HandBaggageInformation(alert, random.nextBoolean(), randomString());
+    }
+
+    private String randomString() {
+        if (random.nextInt(4) == 0) {
+            return null;
+        }
+        StringBuilder s = new StringBuilder();
+        int length = random.nextInt(4) == 0 ? random.nextInt(2_000) : random.nextInt(20);
+        for (int i = 0; i < length; i++) {
+            s.append(SAMPLE_CHARACTERS[random.nextInt(SAMPLE_CHARACTERS.length)]);
+        }
+        return s.toString();
+    }
+}
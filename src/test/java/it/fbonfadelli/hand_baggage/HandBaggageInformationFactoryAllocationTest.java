@@ -0,0 +1,115 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.FlightSummary;
+import it.fbonfadelli.model.HopFlight;
+import it.fbonfadelli.model.Leg;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+
+import static it.fbonfadelli.FlightBuilder.aFlight;
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Only the wiring with per-language cached factories evaluates without allocating. The default
+ * {@link HandBaggagePoliciesFactory#make(TranslationRepository)} wiring fetches and renders the translations on every
+ * call.
+ */
+public class HandBaggageInformationFactoryAllocationTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final Integer MY_COMPANY_AFTER_THE_CUTOFF = 1;
+    private static final Integer MY_COMPANY_BEFORE_THE_CUTOFF = 2;
+    private static final Integer NOT_MY_COMPANY = 3;
+    private static final int CALLS = 100_000;
+    private static final int ROUNDS = 20;
+    private static final LocalDateTime OCTOBER = LocalDateTime.of(2018, 10, 1, 10, 0);
+    private static final LocalDateTime DECEMBER = LocalDateTime.of(2018, 12, 1, 10, 0);
+
+    private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final TranslationRepository translationRepository = (key, language) -> key + " {{link}}@" + language;
+    private final HandBaggageInformationFactory factory = new HandBaggageInformationFactory(
+            HandBaggagePoliciesFactory.make(
+                    NewMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository),
+                    OldMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository)
+            ),
+            new NotMyCompanyHandBaggageInformationFactory()
+    );
+    private final Order order = OrderBuilder.anOrder().withFlights(
+            flight(MY_COMPANY_AFTER_THE_CUTOFF, FlightSummary.MY_COMPANY_AIRLINE_ID, DECEMBER),
+            flight(MY_COMPANY_BEFORE_THE_CUTOFF, FlightSummary.MY_COMPANY_AIRLINE_ID, OCTOBER),
+            flight(NOT_MY_COMPANY, "U2", DECEMBER)
+    ).build();
+
+    @Test
+    public void evaluatesAPolicyWithoutAllocating() {
+        assertThat(steadyStateBytesPerRound(MY_COMPANY_AFTER_THE_CUTOFF), is(0L));
+        assertThat(steadyStateBytesPerRound(MY_COMPANY_BEFORE_THE_CUTOFF), is(0L));
+    }
+
+    @Test
+    public void fallsBackWithoutAllocating() {
+        assertThat(steadyStateBytesPerRound(NOT_MY_COMPANY), is(0L));
+    }
+
+    @Test
+    public void keepsTheSummaryAndAllocatesNothingWhileOtherOrdersChange() {
+        Flight anotherFlight = flight(1, "U2", OCTOBER);
+        Order anotherOrder = OrderBuilder.anOrder().withFlights(anotherFlight).build();
+        Leg anotherLeg = anotherFlight.getFirstLeg();
+        HopFlight looseHopFlight = new HopFlight();
+        FlightSummary summary = order.getFlight(MY_COMPANY_AFTER_THE_CUTOFF).getSummary();
+
+        long bytes = steadyStateBytesPerRound(MY_COMPANY_AFTER_THE_CUTOFF, () -> {
+            looseHopFlight.setAirlineId(FlightSummary.MY_COMPANY_AIRLINE_ID);
+            anotherLeg.getDeparture().setDate(DECEMBER);
+            anotherFlight.getLegs().set(0, anotherLeg);
+        });
+        OrderBuilder.anOrder().withFlights(flight(4, FlightSummary.MY_COMPANY_AIRLINE_ID, OCTOBER)).build();
+        factory.from(anotherOrder, A_RENDER_LANGUAGE, 1);
+
+        assertThat(bytes, is(0L));
+        assertThat(order.getFlight(MY_COMPANY_AFTER_THE_CUTOFF).getSummary(), is(sameInstance(summary)));
+    }
+
+    private long steadyStateBytesPerRound(Integer flightId) {
+        return steadyStateBytesPerRound(flightId, () -> {
+        });
+    }
+
+    // The JIT needs a few rounds before it scalar-replaces what the interpreter allocates, so the best round counts. The
+    // whole round is compared, so that even one allocation in all its calls fails the test.
+    private long steadyStateBytesPerRound(Integer flightId, Runnable betweenCalls) {
+        long threadId = Thread.currentThread().getId();
+        long fewestBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && fewestBytes > 0; round++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int call = 0; call < CALLS; call++) {
+                factory.from(order, A_RENDER_LANGUAGE, flightId);
+                betweenCalls.run();
+            }
+            long after = threadMXBean.getThreadAllocatedBytes(threadId);
+            fewestBytes = Math.min(fewestBytes, after - before);
+        }
+        return fewestBytes;
+    }
+
+    private static Flight flight(int flightId, String airlineId, LocalDateTime departure) {
+        return aFlight().withFlightId(flightId)
+                .addLeg(aLeg().withHops(aHop().withAirlineId(airlineId).withDepartureTime(departure).build()).build())
+                .build();
+    }
+}
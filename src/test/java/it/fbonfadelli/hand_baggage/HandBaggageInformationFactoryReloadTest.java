@@ -0,0 +1,126 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HandBaggageInformationFactoryReloadTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final int THREADS = 8;
+    private static final int EVALUATIONS_PER_THREAD = 20_000;
+
+    @Test
+    public void evaluatesWithTheReloadedPolicies() {
+        HandBaggageInformationFactory factory = new HandBaggageInformationFactory(Collections.singletonList(generation(1)),
+                new NotMyCompanyHandBaggageInformationFactory());
+        Order order = OrderBuilder.anOrder().withFlights(new RandomFlights(1L).aFlight(1, 2)).build();
+
+        HandBaggagePolicySelector previous = factory.reload(Collections.singletonList(generation(2)));
+
+        assertThat(factory.from(order, A_RENDER_LANGUAGE, 1).handBaggagePolicy, is("2"));
+        assertThat(previous.select(order.getFlight(1)).getFrom(A_RENDER_LANGUAGE).handBaggagePolicy, is("1"));
+        assertThat(factory.policySelector(), is(sameInstance(factory.policySelector())));
+    }
+
+    @Test
+    public void everyEvaluationSeesOneConsistentSnapshotWhileReloading() throws Exception {
+        HandBaggageInformationFactory factory = new HandBaggageInformationFactory(Collections.singletonList(generation(0)),
+                new NotMyCompanyHandBaggageInformationFactory());
+        Order order = OrderBuilder.anOrder().withFlights(new RandomFlights(20181101L).someFlights(1, 1)).build();
+        List<Flight> flights = new ArrayList<>();
+        for (int flightId = 1; flightId <= 4; flightId++) {
+            flights.add(new RandomFlights(flightId).aFlight(flightId, 3));
+        }
+        Order manyFlights = OrderBuilder.anOrder().withFlights(flights.toArray(new Flight[0])).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean evaluating = new AtomicBoolean(true);
+        try {
+            Future<Integer> reloads = executor.submit(() -> {
+                start.await();
+                int generation = 0;
+                while (evaluating.get()) {
+                    factory.reload(Collections.singletonList(generation(++generation)));
+                    Thread.yield();
+                }
+                return generation;
+            });
+
+            List<Future<Set<Integer>>> evaluators = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                evaluators.add(executor.submit(() -> {
+                    start.await();
+                    Set<Integer> seenGenerations = new HashSet<>();
+                    int latestGeneration = 0;
+                    for (int evaluation = 0; evaluation < EVALUATIONS_PER_THREAD; evaluation++) {
+                        int generation = generationOf(factory.fromAll(manyFlights, A_RENDER_LANGUAGE));
+                        assertTrue("Went back from generation " + latestGeneration + " to " + generation, generation >= latestGeneration);
+                        assertThat(factory.from(order, A_RENDER_LANGUAGE, 1).handBaggagePolicy.isEmpty(), is(false));
+                        latestGeneration = generation;
+                        seenGenerations.add(generation);
+                    }
+                    return seenGenerations;
+                }));
+            }
+
+            start.countDown();
+            Set<Integer> seenGenerations = new HashSet<>();
+            for (Future<Set<Integer>> evaluator : evaluators) {
+                seenGenerations.addAll(evaluator.get(1, TimeUnit.MINUTES));
+            }
+            evaluating.set(false);
+
+            assertTrue("Only generations " + seenGenerations + " were seen", reloads.get() == 0 || seenGenerations.size() > 1);
+        } finally {
+            evaluating.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    private static int generationOf(Map<Integer, HandBaggageInformation> handBaggageInformationByFlightId) {
+        Set<String> generations = new HashSet<>();
+        for (HandBaggageInformation handBaggageInformation : handBaggageInformationByFlightId.values()) {
+            generations.add(handBaggageInformation.handBaggagePolicy);
+        }
+        assertThat("Mixed snapshots " + generations, generations.size(), is(1));
+        return Integer.parseInt(generations.iterator().next());
+    }
+
+    private static HandBaggageInformationPolicy generation(int generation) {
+        HandBaggageInformation handBaggageInformation = new HandBaggageInformation(null, true, String.valueOf(generation));
+        return new HandBaggageInformationPolicy() {
+            @Override
+            public boolean canHandle(Flight flight) {
+                return true;
+            }
+
+            @Override
+            public HandBaggageInformation getFrom(String renderLanguage) {
+                return handBaggageInformation;
+            }
+        };
+    }
+}
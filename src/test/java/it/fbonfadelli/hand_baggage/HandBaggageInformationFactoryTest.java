@@ -5,17 +5,26 @@ import it.fbonfadelli.OrderBuilder;
 import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
 import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
 import it.fbonfadelli.model.*;
+import it.fbonfadelli.translation.AsyncTranslationRepository;
 import it.fbonfadelli.translation.TranslationRepository;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
 
 import static it.fbonfadelli.HopBuilder.aHop;
 import static it.fbonfadelli.LegBuilder.aLeg;
+import static it.fbonfadelli.TranslationAnswers.retrievingEachKeyFrom;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class HandBaggageInformationFactoryTest {
@@ -30,10 +39,12 @@ public class HandBaggageInformationFactoryTest {
     private static final String MY_COMPANY_OLD_HAND_BAGGAGE_POLICY = "<a target=\"_blank\" href=\"" + MY_COMPANY_OLD_HAND_BAGGAGE_LINK + "\">" + MY_COMPANY_OLD_HAND_BAGGAGE_LINK_MESSAGE + "</a>";
 
     private HandBaggageInformationFactory handBaggageInformationFactory;
+    private TranslationRepository translationRepository;
 
     @Before
     public void setUp() {
-        TranslationRepository translationRepository = Mockito.mock(TranslationRepository.class);
+        translationRepository = Mockito.mock(TranslationRepository.class);
+        when(translationRepository.retrieveAll(anyCollectionOf(String.class), anyString())).thenAnswer(retrievingEachKeyFrom(translationRepository));
         handBaggageInformationFactory =
                 new HandBaggageInformationFactory(
                         HandBaggagePoliciesFactory.make(translationRepository),
@@ -163,10 +174,10 @@ public class HandBaggageInformationFactoryTest {
     }
 
     private HandBaggageAlert handBaggageAlert() {
-        HandBaggageAlert handBaggageAlert = new HandBaggageAlert();
-        handBaggageAlert.setTitle("Update to  MyCompany's baggage policy");
-        handBaggageAlert.setMessage("We strongly recommend that you check the <a href=\"" + MY_COMPANY_NEW_HAND_BAGGAGE_LINK + "\" target=\"_blank\" rel=\"noopener\">" + MY_COMPANY_NEW_HAND_BAGGAGE_LINK_MESSAGE + "</a>.");
-        return handBaggageAlert;
+        return new HandBaggageAlert(
+                "Update to  MyCompany's baggage policy",
+                "We strongly recommend that you check the <a href=\"" + MY_COMPANY_NEW_HAND_BAGGAGE_LINK + "\" target=\"_blank\" rel=\"noopener\">" + MY_COMPANY_NEW_HAND_BAGGAGE_LINK_MESSAGE + "</a>."
+        );
     }
 
     @Test
@@ -497,4 +508,93 @@ public class HandBaggageInformationFactoryTest {
                 )
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void allTheFlightsOfADoubleOneWayInOnePass() {
+        final Hop outboundHop = aHop()
+                .withAirlineId(MY_COMPANY_AIRLINE_ID)
+                .withDepartureTime(LocalDateTime.of(2018, 11, 3, 10, 0, 0)).build();
+        final Flight outboundFlight = FlightBuilder.aFlight().withAirline(MY_COMPANY_AIRLINE_ID)
+                .addLeg(aLeg().withHops(outboundHop).build()).build();
+
+        final Hop returnHop = aHop()
+                .withAirlineId(MY_COMPANY_AIRLINE_ID)
+                .withDepartureTime(LocalDateTime.of(2018, 11, 4, 10, 0, 0)).build();
+        final Flight returnFlight = FlightBuilder.aFlight().withAirline(MY_COMPANY_AIRLINE_ID).withFlightId(2)
+                .addLeg(aLeg().withHops(returnHop).build()).build();
+
+        final Order order = OrderBuilder.anOrder().withFlights(outboundFlight, returnFlight).build();
+
+        Map<Integer, HandBaggageInformation> handBaggageInformationByFlightId = handBaggageInformationFactory.fromAll(order, A_RENDER_LANGUAGE);
+
+        assertThat(new ArrayList<>(handBaggageInformationByFlightId.keySet()), is(Arrays.asList(1, 2)));
+        assertThat(handBaggageInformationByFlightId.get(1), is(
+                new HandBaggageInformation(
+                        handBaggageAlert(),
+                        false,
+                        MY_COMPANY_NEW_HAND_BAGGAGE_POLICY
+                )
+        ));
+        assertThat(handBaggageInformationByFlightId.get(2), is(handBaggageInformationByFlightId.get(1)));
+        verify(translationRepository, times(1)).retrieve("customer_area.new_hand_baggage_policy.label.my_company_id", A_RENDER_LANGUAGE);
+    }
+
+    @Test
+    public void allTheFlightsOfAMixedDoubleOneWayInOnePass() {
+        final Hop outboundHop = aHop()
+                .withDepartureTime(LocalDateTime.of(2018, 10, 3, 10, 0, 0)).build();
+        final Flight outboundFlight = FlightBuilder.aFlight()
+                .addLeg(aLeg().withHops(outboundHop).build()).build();
+
+        final Hop returnHop = aHop()
+                .withAirlineId(MY_COMPANY_AIRLINE_ID)
+                .withDepartureTime(LocalDateTime.of(2018, 10, 31, 10, 0, 0)).build();
+        final Flight returnFlight = FlightBuilder.aFlight().withAirline(MY_COMPANY_AIRLINE_ID).withFlightId(2)
+                .addLeg(aLeg().withHops(returnHop).build()).build();
+
+        final Order order = OrderBuilder.anOrder().withFlights(outboundFlight, returnFlight).build();
+
+        Map<Integer, HandBaggageInformation> handBaggageInformationByFlightId = handBaggageInformationFactory.fromAll(order, A_RENDER_LANGUAGE);
+
+        assertThat(handBaggageInformationByFlightId.get(1), is(
+                new HandBaggageInformation(
+                        null,
+                        true,
+                        null
+                )
+        ));
+        assertThat(handBaggageInformationByFlightId.get(2), is(
+                new HandBaggageInformation(
+                        null,
+                        true,
+                        MY_COMPANY_OLD_HAND_BAGGAGE_POLICY
+                )
+        ));
+    }
+
+    @Test
+    public void allTheFlightsOfAMixedDoubleOneWayAsynchronously() {
+        final Hop outboundHop = aHop()
+                .withAirlineId(MY_COMPANY_AIRLINE_ID)
+                .withDepartureTime(LocalDateTime.of(2018, 11, 3, 10, 0, 0)).build();
+        final Flight outboundFlight = FlightBuilder.aFlight().withAirline(MY_COMPANY_AIRLINE_ID)
+                .addLeg(aLeg().withHops(outboundHop).build()).build();
+
+        final Hop returnHop = aHop()
+                .withDepartureTime(LocalDateTime.of(2018, 11, 4, 10, 0, 0)).build();
+        final Flight returnFlight = FlightBuilder.aFlight().withFlightId(2)
+                .addLeg(aLeg().withHops(returnHop).build()).build();
+
+        final Order order = OrderBuilder.anOrder().withFlights(outboundFlight, returnFlight).build();
+        HandBaggageInformationFactory asyncHandBaggageInformationFactory = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.makeAsync(AsyncTranslationRepository.from(translationRepository, Runnable::run)),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+
+        Map<Integer, HandBaggageInformation> handBaggageInformationByFlightId = asyncHandBaggageInformationFactory.fromAllAsync(order, A_RENDER_LANGUAGE).join();
+
+        assertThat(handBaggageInformationByFlightId, is(handBaggageInformationFactory.fromAll(order, A_RENDER_LANGUAGE)));
+        assertThat(asyncHandBaggageInformationFactory.fromAsync(order, A_RENDER_LANGUAGE, 1).join(), is(handBaggageInformationByFlightId.get(1)));
+        assertThat(asyncHandBaggageInformationFactory.from(order, A_RENDER_LANGUAGE, 1), is(handBaggageInformationByFlightId.get(1)));
+    }
+}
@@ -0,0 +1,41 @@
+package it.fbonfadelli.hand_baggage;
+
+import it.fbonfadelli.model.HandBaggageAlert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class HandBaggageInformationInternerTest {
+
+    private final HandBaggageInformationInterner interner = new HandBaggageInformationInterner();
+
+    @Test
+    public void equalResultsShareTheFirstInstance() {
+        HandBaggageInformation first = new HandBaggageInformation(new HandBaggageAlert("::title::", "::message::"), false, "::policy::");
+        HandBaggageInformation second = new HandBaggageInformation(new HandBaggageAlert("::title::", "::message::"), false, "::policy::");
+
+        assertThat(interner.intern(first), sameInstance(first));
+        assertThat(interner.intern(second), sameInstance(first));
+        assertThat(interner.size(), is(1));
+    }
+
+    @Test
+    public void differentResultsHashApart() {
+        Set<Integer> hashCodes = new HashSet<>();
+        for (int message = 0; message < 100; message++) {
+            HandBaggageInformation handBaggageInformation = new HandBaggageInformation(new HandBaggageAlert("::title::", "::message_" + message + "::"), false, "::policy::");
+            hashCodes.add(interner.intern(handBaggageInformation).hashCode());
+        }
+        hashCodes.add(new HandBaggageInformation(null, true, null).hashCode());
+
+        assertThat(interner.size(), is(100));
+        assertThat(hashCodes.size(), is(101));
+        assertThat(new HandBaggageInformation(null, true, null).hashCode(), is(not(new HandBaggageInformation(null, false, null).hashCode())));
+    }
+}
@@ -0,0 +1,98 @@
+package it.fbonfadelli.hand_baggage.batch;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NewMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.OldMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HandBaggageBatchEvaluatorTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final int RANDOM_ORDERS = 5_000;
+    private static final int PARALLELISM = 4;
+
+    private final TranslationRepository translationRepository = (key, language) -> key + "{{link}}@" + language;
+    private final HandBaggageInformationFactory handBaggageInformationFactory = new HandBaggageInformationFactory(
+            HandBaggagePoliciesFactory.make(
+                    NewMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository),
+                    OldMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository)),
+            new NotMyCompanyHandBaggageInformationFactory()
+    );
+
+    @Test
+    public void evaluatesAListOfOrdersKeepingTheirOrder() {
+        List<Order> orders = randomOrders();
+
+        List<Map<Integer, HandBaggageInformation>> results;
+        try (HandBaggageBatchEvaluator evaluator = new HandBaggageBatchEvaluator(handBaggageInformationFactory, A_RENDER_LANGUAGE, PARALLELISM)) {
+            results = evaluator.evaluate(orders);
+        }
+
+        assertSameResultsOfTheHandBaggageInformationFactory(orders, results);
+    }
+
+    @Test
+    public void evaluatesASpliteratorOfOrdersKeepingTheirOrder() {
+        List<Order> orders = randomOrders();
+
+        List<Map<Integer, HandBaggageInformation>> results;
+        try (HandBaggageBatchEvaluator evaluator = new HandBaggageBatchEvaluator(handBaggageInformationFactory, A_RENDER_LANGUAGE, PARALLELISM)) {
+            results = evaluator.evaluate(orders.spliterator());
+        }
+
+        assertSameResultsOfTheHandBaggageInformationFactory(orders, results);
+    }
+
+    @Test
+    public void sharesOneInstancePerDistinctResult() {
+        HandBaggageInformationFactory uncachedFactory = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.make(translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+
+        List<Map<Integer, HandBaggageInformation>> results;
+        try (HandBaggageBatchEvaluator evaluator = new HandBaggageBatchEvaluator(uncachedFactory, A_RENDER_LANGUAGE, PARALLELISM)) {
+            results = evaluator.evaluate(randomOrders());
+        }
+
+        Set<HandBaggageInformation> distinctInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map<Integer, HandBaggageInformation> result : results) {
+            distinctInstances.addAll(result.values());
+        }
+        assertThat(distinctInstances.size(), is(new HashSet<>(distinctInstances).size()));
+    }
+
+    private void assertSameResultsOfTheHandBaggageInformationFactory(List<Order> orders, List<Map<Integer, HandBaggageInformation>> results) {
+        assertThat(results.size(), is(orders.size()));
+        for (int i = 0; i < orders.size(); i++) {
+            assertThat(results.get(i), is(handBaggageInformationFactory.fromAll(orders.get(i), A_RENDER_LANGUAGE)));
+        }
+    }
+
+    private static List<Order> randomOrders() {
+        RandomFlights randomFlights = new RandomFlights(20181101L);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < RANDOM_ORDERS; i++) {
+            orders.add(OrderBuilder.anOrder().withFlights(randomFlights.someFlights(3, 3)).build());
+        }
+        return orders;
+    }
+}
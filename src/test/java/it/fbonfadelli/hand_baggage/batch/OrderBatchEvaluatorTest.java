@@ -0,0 +1,76 @@
+package it.fbonfadelli.hand_baggage.batch;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class OrderBatchEvaluatorTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final int RANDOM_ORDERS = 5_000;
+
+    private final TranslationRepository translationRepository = (key, language) -> key + "{{link}}@" + language;
+
+    private final HandBaggageInformationFactory handBaggageInformationFactory = new HandBaggageInformationFactory(
+            HandBaggagePoliciesFactory.make(translationRepository),
+            new NotMyCompanyHandBaggageInformationFactory()
+    );
+    private final OrderBatchEvaluator orderBatchEvaluator = new OrderBatchEvaluator(
+            HandBaggagePoliciesFactory.makeDecisionTable(translationRepository),
+            new NotMyCompanyHandBaggageInformationFactory()
+    );
+
+    @Test
+    public void givesTheSameResultsOfTheHandBaggageInformationFactory() {
+        RandomFlights randomFlights = new RandomFlights(20181101L);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < RANDOM_ORDERS; i++) {
+            orders.add(OrderBuilder.anOrder().withFlights(randomFlights.someFlights(3, 4)).build());
+        }
+
+        assertSameResults(orders);
+    }
+
+    @Test
+    public void evaluatesFlightsWithoutLegs() {
+        RandomFlights randomFlights = new RandomFlights(20181101L);
+        List<Order> orders = new ArrayList<>();
+        orders.add(OrderBuilder.anOrder().withFlights(randomFlights.aFlight(1, 2), aFlightWithoutLegs(2), randomFlights.aFlight(3, 2)).build());
+        orders.add(OrderBuilder.anOrder().withFlights(randomFlights.aFlight(1, 2), aFlightWithoutLegs(2)).build());
+
+        assertSameResults(orders);
+    }
+
+    private void assertSameResults(List<Order> orders) {
+        OrderBatch batch = OrderBatch.from(orders);
+        HandBaggageInformation[] handBaggageInformationByFlight = orderBatchEvaluator.evaluate(batch, A_RENDER_LANGUAGE);
+
+        assertThat(batch.orderCount(), is(orders.size()));
+        for (int order = 0; order < batch.orderCount(); order++) {
+            assertThat(batch.flightCountOf(order), is(orders.get(order).getFlights().size()));
+            for (int flight = batch.firstFlightOf(order); flight < batch.firstFlightOf(order) + batch.flightCountOf(order); flight++) {
+                HandBaggageInformation expected = handBaggageInformationFactory.from(orders.get(order), A_RENDER_LANGUAGE, batch.flightId(flight));
+                assertThat(handBaggageInformationByFlight[flight], is(expected));
+            }
+        }
+    }
+
+    private static Flight aFlightWithoutLegs(int flightId) {
+        Flight flight = new Flight();
+        flight.setFlightId(flightId);
+        return flight;
+    }
+}
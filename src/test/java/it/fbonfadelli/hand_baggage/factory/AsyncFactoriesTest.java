@@ -0,0 +1,80 @@
+package it.fbonfadelli.hand_baggage.factory;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.translation.AsyncTranslationRepository;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AsyncFactoriesTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+
+    private final TranslationRepository translationRepository = (key, language) -> key + "{{link}}@" + language;
+    private final PendingTranslations pendingTranslations = new PendingTranslations();
+
+    @Test
+    public void newMyCompanyInformationRequestsAllTheTranslationsAtOnce() {
+        CompletableFuture<HandBaggageInformation> handBaggageInformation =
+                NewMyCompanyHandBaggageInformationFactory.async(pendingTranslations).fromAsync(A_RENDER_LANGUAGE);
+
+        assertThat(pendingTranslations.requested(), is(4));
+        assertThat(handBaggageInformation.isDone(), is(false));
+
+        pendingTranslations.completeWith(translationRepository);
+
+        assertThat(handBaggageInformation.join(), is(new NewMyCompanyHandBaggageInformationFactory(translationRepository).from(A_RENDER_LANGUAGE)));
+    }
+
+    @Test
+    public void oldMyCompanyInformationRequestsAllTheTranslationsAtOnce() {
+        CompletableFuture<HandBaggageInformation> handBaggageInformation =
+                OldMyCompanyHandBaggageInformationFactory.async(pendingTranslations).fromAsync(A_RENDER_LANGUAGE);
+
+        assertThat(pendingTranslations.requested(), is(2));
+        assertThat(handBaggageInformation.isDone(), is(false));
+
+        pendingTranslations.completeWith(translationRepository);
+
+        assertThat(handBaggageInformation.join(), is(new OldMyCompanyHandBaggageInformationFactory(translationRepository).from(A_RENDER_LANGUAGE)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void blockingCallersSeeTheOriginalFailure() {
+        AsyncTranslationRepository failing = (key, language) -> {
+            CompletableFuture<String> translation = new CompletableFuture<>();
+            translation.completeExceptionally(new IllegalStateException("::catalog_unavailable::"));
+            return translation;
+        };
+
+        OldMyCompanyHandBaggageInformationFactory.async(failing).from(A_RENDER_LANGUAGE);
+    }
+
+    private static class PendingTranslations implements AsyncTranslationRepository {
+        private final Map<String, CompletableFuture<String>> pending = new LinkedHashMap<>();
+
+        @Override
+        public CompletableFuture<String> retrieve(String key, String language) {
+            CompletableFuture<String> translation = new CompletableFuture<>();
+            pending.put(key + "@" + language, translation);
+            return translation;
+        }
+
+        int requested() {
+            return pending.size();
+        }
+
+        void completeWith(TranslationRepository translationRepository) {
+            for (Map.Entry<String, CompletableFuture<String>> translation : pending.entrySet()) {
+                String[] keyAndLanguage = translation.getKey().split("@");
+                translation.getValue().complete(translationRepository.retrieve(keyAndLanguage[0], keyAndLanguage[1]));
+            }
+        }
+    }
+}
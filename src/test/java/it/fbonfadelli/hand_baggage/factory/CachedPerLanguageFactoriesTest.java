@@ -0,0 +1,60 @@
+package it.fbonfadelli.hand_baggage.factory;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static it.fbonfadelli.TranslationAnswers.retrievingEachKeyFrom;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachedPerLanguageFactoriesTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final String ANOTHER_RENDER_LANGUAGE = "::another_render_language::";
+
+    private TranslationRepository translationRepository;
+
+    @Before
+    public void setUp() {
+        translationRepository = Mockito.mock(TranslationRepository.class);
+        when(translationRepository.retrieve(anyString(), anyString())).thenReturn("::a_translation:: {{link}}");
+        when(translationRepository.retrieveAll(anyCollectionOf(String.class), anyString())).thenAnswer(retrievingEachKeyFrom(translationRepository));
+    }
+
+    @Test
+    public void newMyCompanyInformationIsBuiltOncePerLanguage() {
+        NewMyCompanyHandBaggageInformationFactory factory = NewMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository);
+
+        HandBaggageInformation first = factory.from(A_RENDER_LANGUAGE);
+        HandBaggageInformation second = factory.from(A_RENDER_LANGUAGE);
+        factory.from(ANOTHER_RENDER_LANGUAGE);
+
+        assertThat(second, sameInstance(first));
+        verify(translationRepository, times(1)).retrieveAll(NewMyCompanyHandBaggageInformationFactory.TRANSLATION_KEYS, A_RENDER_LANGUAGE);
+        verify(translationRepository, times(1)).retrieveAll(NewMyCompanyHandBaggageInformationFactory.TRANSLATION_KEYS, ANOTHER_RENDER_LANGUAGE);
+    }
+
+    @Test
+    public void oldMyCompanyInformationIsRebuiltAfterInvalidation() {
+        OldMyCompanyHandBaggageInformationFactory factory = OldMyCompanyHandBaggageInformationFactory.cachedPerLanguage(translationRepository);
+
+        HandBaggageInformation beforeInvalidation = factory.from(A_RENDER_LANGUAGE);
+        factory.invalidate(A_RENDER_LANGUAGE);
+        HandBaggageInformation afterInvalidation = factory.from(A_RENDER_LANGUAGE);
+
+        assertThat(afterInvalidation, is(beforeInvalidation));
+        assertThat(afterInvalidation, not(sameInstance(beforeInvalidation)));
+        verify(translationRepository, times(4)).retrieve(anyString(), eq(A_RENDER_LANGUAGE));
+    }
+}
@@ -0,0 +1,141 @@
+package it.fbonfadelli.hand_baggage.metrics;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationPolicy;
+import it.fbonfadelli.hand_baggage.PolicyChain;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HandBaggageMetricsTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final int RANDOM_ORDERS = 1_000;
+
+    private final HandBaggageMetrics metrics = new HandBaggageMetrics(1);
+    private final TranslationRepository translationRepository = new InstrumentedTranslationRepository(
+            (key, language) -> key + "{{link}}@" + language, metrics);
+    private final PolicyChain policyChain = new PolicyChain(HandBaggagePoliciesFactory.make(translationRepository));
+    private final HandBaggageInformationFactory factory = new HandBaggageInformationFactory(
+            policyChain, new NotMyCompanyHandBaggageInformationFactory(), metrics);
+
+    @Test
+    public void countsTheHitsOfEveryPolicyAndTheFallbacks() {
+        Map<String, Long> expectedHits = new HashMap<>();
+        long expectedFallbacks = 0;
+        RandomFlights randomFlights = new RandomFlights(20181101L);
+
+        for (int i = 0; i < RANDOM_ORDERS; i++) {
+            Flight flight = randomFlights.aFlight(1, 3);
+            Order order = OrderBuilder.anOrder().withFlights(flight).build();
+            HandBaggageInformationPolicy policy = policyChain.select(flight);
+            if (policy == null) {
+                expectedFallbacks++;
+            } else {
+                expectedHits.merge(policy.name(), 1L, Long::sum);
+            }
+
+            factory.from(order, A_RENDER_LANGUAGE, 1);
+        }
+
+        HandBaggageMetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getPolicyHits(), is(expectedHits));
+        assertThat(snapshot.getFallbackCount(), is(expectedFallbacks));
+        assertThat(snapshot.getEvaluationCount(), is((long) RANDOM_ORDERS));
+        assertThat(snapshot.getEvaluationLatency().getCount(), is((long) RANDOM_ORDERS));
+        assertThat(snapshot.getTranslationLatency().getCount(), is((long) RANDOM_ORDERS - expectedFallbacks));
+    }
+
+    @Test
+    public void keepsCountingAPolicyByNameAfterItIsReloaded() {
+        HandBaggageInformationFactory factory = new HandBaggageInformationFactory(
+                new PolicyChain(Collections.singletonList(new HandlesEveryFlight())), new NotMyCompanyHandBaggageInformationFactory(), metrics);
+        Order order = OrderBuilder.anOrder().withFlights(new RandomFlights(1L).aFlight(1, 1)).build();
+
+        factory.from(order, A_RENDER_LANGUAGE, 1);
+        factory.reload(Collections.singletonList(new HandlesEveryFlight()));
+        factory.from(order, A_RENDER_LANGUAGE, 1);
+
+        assertThat(metrics.snapshot().getPolicyHits(), is(Collections.singletonMap("HandlesEveryFlight", 2L)));
+    }
+
+    @Test
+    public void countsTheHitsOfASelectorThatCannotListItsPolicies() {
+        HandBaggageInformationPolicy handlesEveryFlight = new HandlesEveryFlight();
+        HandBaggageInformationFactory factory = new HandBaggageInformationFactory(
+                flight -> flight.getFlightId() == 1 ? handlesEveryFlight : null, new NotMyCompanyHandBaggageInformationFactory(), metrics);
+        RandomFlights randomFlights = new RandomFlights(1L);
+        Order order = OrderBuilder.anOrder().withFlights(randomFlights.aFlight(1, 1), randomFlights.aFlight(2, 1)).build();
+
+        factory.fromAll(order, A_RENDER_LANGUAGE);
+
+        assertThat(metrics.snapshot().getPolicyHits(), is(Collections.singletonMap("HandlesEveryFlight", 1L)));
+        assertThat(metrics.snapshot().getFallbackCount(), is(1L));
+    }
+
+    @Test
+    public void bucketsLatenciesByPowerOfTwo() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(-5);
+        histogram.record(1);
+        histogram.record(1_000);
+        histogram.record(1_023);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogramSnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount(), is(6L));
+        assertThat(snapshot.getCount(0), is(2L));
+        assertThat(snapshot.getCount(1), is(1L));
+        assertThat(snapshot.getCount(10), is(2L));
+        assertThat(snapshot.getCount(63), is(1L));
+        assertThat(snapshot.getPercentileNanos(50), is(1L));
+        assertThat(snapshot.getPercentileNanos(80), is(1_023L));
+        assertThat(snapshot.getPercentileNanos(100), is(Long.MAX_VALUE));
+        assertThat(new LatencyHistogram().snapshot().getPercentileNanos(99), is(0L));
+    }
+
+    @Test
+    public void exposesTheMetricsThroughJmx() throws Exception {
+        MBeanServer mBeanServer = MBeanServerFactory.newMBeanServer();
+        ObjectName objectName = metrics.registerMBean(mBeanServer, "test");
+        Order notMyCompany = OrderBuilder.anOrder().withFlights(new RandomFlights(1L).aFlight(1, 1)).build();
+        factory.fromAll(notMyCompany, A_RENDER_LANGUAGE);
+
+        assertThat(objectName.getKeyProperty("type"), is("HandBaggageMetrics"));
+        assertThat(mBeanServer.getAttribute(objectName, "EvaluationCount"), is((Object) 1L));
+        assertThat(mBeanServer.getAttribute(objectName, "SampledEvaluationCount"), is((Object) 1L));
+        TabularData policyHits = (TabularData) mBeanServer.getAttribute(objectName, "PolicyHits");
+        assertThat((long) policyHits.size() + (long) mBeanServer.getAttribute(objectName, "FallbackCount"), is(1L));
+    }
+
+    private static class HandlesEveryFlight implements HandBaggageInformationPolicy {
+        @Override
+        public boolean canHandle(Flight flight) {
+            return true;
+        }
+
+        @Override
+        public HandBaggageInformation getFrom(String renderLanguage) {
+            return new HandBaggageInformation(null, true, renderLanguage);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package it.fbonfadelli.hand_baggage.policy;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.hand_baggage.HandBaggageInformation;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.model.Flight;
+import it.fbonfadelli.model.Order;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+
+import static it.fbonfadelli.FlightBuilder.aFlight;
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CarrierRulesConfigurationTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+    private static final int RANDOM_ORDERS = 10_000;
+    private static final String MY_COMPANY_RULES = "# airlineId,effectiveAfter,old|new,translationId\n" +
+            "MY_COMPANY_AIRLINE_ID,*,old,my_company_id\n" +
+            "\n" +
+            "MY_COMPANY_AIRLINE_ID,2018-11-01T00:00:00Z,new,my_company_id\n";
+
+    private final TranslationRepository translationRepository = (key, language) -> key + "{{link}}@" + language;
+
+    @Test
+    public void givesTheSameResultsOfThePolicyChain() throws IOException {
+        HandBaggageInformationFactory chain = new HandBaggageInformationFactory(
+                HandBaggagePoliciesFactory.make(translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        HandBaggageInformationFactory configured = new HandBaggageInformationFactory(
+                CarrierRulesConfiguration.load(new StringReader(MY_COMPANY_RULES), translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+        RandomFlights randomFlights = new RandomFlights(20181101L);
+
+        for (int i = 0; i < RANDOM_ORDERS; i++) {
+            Order order = OrderBuilder.anOrder().withFlights(randomFlights.aFlight(1, 3)).build();
+
+            assertThat(configured.from(order, A_RENDER_LANGUAGE, 1), is(chain.from(order, A_RENDER_LANGUAGE, 1)));
+        }
+    }
+
+    @Test
+    public void rendersTheTranslationsOfEachCarrier() throws IOException {
+        TranslationRepository translationRepository = (key, language) -> key;
+        HandBaggageInformationFactory configured = new HandBaggageInformationFactory(
+                CarrierRulesConfiguration.load(new StringReader(
+                        "AA,*,new,aa_id\n" +
+                        "BB,2019-03-31T00:00,old,bb_id\n"
+                ), translationRepository),
+                new NotMyCompanyHandBaggageInformationFactory()
+        );
+
+        HandBaggageInformation aaFlight = configured.from(orderOf("AA", LocalDateTime.of(2019, 1, 1, 10, 0)), A_RENDER_LANGUAGE, 1);
+        HandBaggageInformation bbBeforeItsRule = configured.from(orderOf("BB", LocalDateTime.of(2019, 3, 31, 0, 0)), A_RENDER_LANGUAGE, 1);
+        HandBaggageInformation bbAfterItsRule = configured.from(orderOf("BB", LocalDateTime.of(2019, 4, 1, 10, 0)), A_RENDER_LANGUAGE, 1);
+
+        assertThat(aaFlight.handBaggagePolicy, is("customer_area.new_hand_baggage_policy.label.aa_id"));
+        assertThat(bbBeforeItsRule, is(new NotMyCompanyHandBaggageInformationFactory().make()));
+        assertThat(bbAfterItsRule.handBaggagePolicy, is("<a target=\"_blank\" href=\"customer_area.hand_baggage_policy.link.bb_id\">customer_area.hand_baggage_policy.label.bb_id</a>"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnUnknownRule() throws IOException {
+        CarrierRulesConfiguration.load(new StringReader("AA,*,newest,aa_id\n"), translationRepository);
+    }
+
+    private static Order orderOf(String airlineId, LocalDateTime departure) {
+        Flight flight = aFlight().withFlightId(1)
+                .addLeg(aLeg().withHops(aHop().withAirlineId(airlineId).withDepartureTime(departure).build()).build())
+                .build();
+        return OrderBuilder.anOrder().withFlights(flight).build();
+    }
+}
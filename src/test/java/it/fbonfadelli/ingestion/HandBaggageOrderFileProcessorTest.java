@@ -0,0 +1,52 @@
+package it.fbonfadelli.ingestion;
+
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.translation.TranslationRepository;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class HandBaggageOrderFileProcessorTest {
+
+    private static final String A_RENDER_LANGUAGE = "::a_render_language::";
+
+    private final TranslationRepository translationRepository = (key, language) -> key;
+    private final HandBaggageOrderFileProcessor processor = new HandBaggageOrderFileProcessor(
+            new HandBaggageInformationFactory(
+                    HandBaggagePoliciesFactory.make(translationRepository),
+                    new NotMyCompanyHandBaggageInformationFactory()
+            ),
+            A_RENDER_LANGUAGE
+    );
+
+    @Test
+    public void writesTheHandBaggageInformationOfEveryFlightOfEveryOrder() throws IOException {
+        String orders = "# one order per line\n" +
+                "1:U2@2018-11-03T10:00\n" +
+                "\n" +
+                "1:MY_COMPANY_AIRLINE_ID@2018-10-08T10:00,U2@2018-10-08T14:00;MY_COMPANY_AIRLINE_ID@2018-10-28T10:00|2:MY_COMPANY_AIRLINE_ID@2018-11-03T10:00\n";
+        StringWriter results = new StringWriter();
+
+        long processedOrders = processor.process(new StringReader(orders), new TabSeparatedHandBaggageResultWriter(results));
+
+        assertThat(processedOrders, is(2L));
+        assertThat(results.toString(), is(
+                "2\t1\ttrue\t\t\t\n" +
+                        "4\t1\ttrue\t<a target=\"_blank\" href=\"customer_area.hand_baggage_policy.link.my_company_id\">customer_area.hand_baggage_policy.label.my_company_id</a>\t\t\n" +
+                        "4\t2\tfalse\tcustomer_area.new_hand_baggage_policy.label.my_company_id\tcustomer_area.new_hand_baggage_policy.alert.title.my_company_id\tcustomer_area.new_hand_baggage_policy.alert.my_company_id\n"
+        ));
+    }
+
+    @Test(expected = OrderLineFormatException.class)
+    public void rejectsMalformedLines() throws IOException {
+        processor.process(new StringReader("1:U2\n"), (lineNumber, flightId, handBaggageInformation) -> {
+        });
+    }
+}
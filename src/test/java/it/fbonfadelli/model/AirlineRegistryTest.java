@@ -0,0 +1,125 @@
+package it.fbonfadelli.model;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AirlineRegistryTest {
+
+    private static final int THREADS = 8;
+    private static final int AIRLINES = 1_000;
+
+    @Test
+    public void registersEveryAirlineOnceEvenWhenThreadsRace() throws Exception {
+        AirlineRegistry airlineRegistry = new AirlineRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<int[]>> registrations = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                registrations.add(() -> {
+                    int[] indexes = new int[AIRLINES];
+                    for (int airline = 0; airline < AIRLINES; airline++) {
+                        indexes[airline] = airlineRegistry.register("AIRLINE_" + airline);
+                    }
+                    return indexes;
+                });
+            }
+
+            List<Future<int[]>> results = executor.invokeAll(registrations);
+            int[] expected = results.get(0).get();
+            for (Future<int[]> result : results) {
+                assertThat(Arrays.equals(result.get(), expected), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(airlineRegistry.size(), is(AIRLINES));
+        for (int airline = 0; airline < AIRLINES; airline++) {
+            int index = airlineRegistry.indexOf("AIRLINE_" + airline);
+            assertThat(index < AIRLINES, is(true));
+            assertThat(airlineRegistry.airlineIdOf(index), is("AIRLINE_" + airline));
+        }
+    }
+
+    @Test
+    public void carrierSetsHoldIndexesBeyondTheFirstWord() {
+        CarrierSet carriers = CarrierSet.of(3, 64, 200);
+
+        assertThat(carriers.contains(3), is(true));
+        assertThat(carriers.contains(64), is(true));
+        assertThat(carriers.contains(200), is(true));
+        assertThat(carriers.contains(4), is(false));
+        assertThat(carriers.contains(201), is(false));
+        assertThat(carriers.contains(AirlineRegistry.UNKNOWN), is(false));
+        assertThat(carriers.intersects(CarrierSet.of(200)), is(true));
+        assertThat(carriers.intersects(CarrierSet.of(5, 65)), is(false));
+        assertThat(CarrierSet.of(200).union(CarrierSet.of(3, 64)), is(carriers));
+    }
+
+    @Test
+    public void flightsStillExposeTheirAirlineIds() {
+        HopFlight myCompany = new HopFlight();
+        myCompany.setAirlineId("MY_COMPANY_AIRLINE_ID");
+        HopFlight another = new HopFlight();
+        another.setAirlineId("::another_airline::");
+
+        Flight flight = new Flight();
+        flight.setLegs(new Legs(Arrays.asList(legWith(myCompany), legWith(another))));
+
+        assertThat(flight.getAirlineIds(), is(new HashSet<>(Arrays.asList("MY_COMPANY_AIRLINE_ID", "::another_airline::"))));
+        assertThat(flight.isMyCompany(), is(true));
+    }
+
+    @Test
+    public void flightsDoNotRegisterTheirAirlines() {
+        String unconfiguredAirline = "::an_unconfigured_airline::";
+        HopFlight hopFlight = new HopFlight();
+        hopFlight.setAirlineId(unconfiguredAirline);
+        Flight flight = new Flight();
+        flight.setLegs(new Legs(Collections.singletonList(legWith(hopFlight))));
+
+        assertThat(flight.getSummary().getCarriers().isEmpty(), is(true));
+        assertThat(AirlineRegistry.getDefault().indexOf(unconfiguredAirline), is(AirlineRegistry.UNKNOWN));
+        assertThat(flight.getAirlineIds(), is(Collections.singleton(unconfiguredAirline)));
+
+        int airlineIndex = AirlineRegistry.getDefault().register(unconfiguredAirline);
+
+        assertThat(flight.getSummary().getCarriers(), is(CarrierSet.of(airlineIndex)));
+    }
+
+    @Test
+    public void legsFollowAirlinesChangedAfterTheFirstQuery() {
+        HopFlight hopFlight = new HopFlight();
+        hopFlight.setAirlineId("::another_airline::");
+        Flight flight = new Flight();
+        flight.setLegs(new Legs(Collections.singletonList(legWith(hopFlight))));
+        assertThat(flight.isMyCompany(), is(false));
+
+        hopFlight.setAirlineId(FlightSummary.MY_COMPANY_AIRLINE_ID);
+
+        assertThat(flight.getFirstLeg().getCarriers(), is(CarrierSet.of(FlightSummary.MY_COMPANY_AIRLINE_INDEX)));
+        assertThat(flight.isMyCompany(), is(true));
+    }
+
+    private static Leg legWith(HopFlight hopFlight) {
+        Hop hop = new Hop();
+        hop.setHopFlight(hopFlight);
+        hop.setDeparture(new PlaceTime(new Airport(), LocalDateTime.of(2018, 11, 1, 10, 0), "20181101Z"));
+        Leg leg = new Leg();
+        leg.setHops(new Hops(Collections.singletonList(hop)));
+        return leg;
+    }
+}
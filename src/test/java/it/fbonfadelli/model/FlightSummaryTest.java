@@ -0,0 +1,123 @@
+package it.fbonfadelli.model;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static it.fbonfadelli.FlightBuilder.aFlight;
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class FlightSummaryTest {
+
+    private static final LocalDateTime OCTOBER = LocalDateTime.of(2018, 10, 1, 10, 0);
+    private static final LocalDateTime NOVEMBER = LocalDateTime.of(2018, 11, 15, 10, 0);
+    private static final LocalDateTime DECEMBER = LocalDateTime.of(2018, 12, 20, 10, 0);
+
+    @Test
+    public void summarizesEveryLegOfAMultiLegFlight() {
+        Flight flight = aFlight()
+                .addLeg(leg("U2", NOVEMBER))
+                .addLeg(leg(FlightSummary.MY_COMPANY_AIRLINE_ID, OCTOBER))
+                .addLeg(leg("U2", DECEMBER))
+                .build();
+
+        FlightSummary summary = flight.getSummary();
+
+        assertThat(summary.getLegCount(), is(3));
+        assertThat(summary.isOneWay(), is(false));
+        assertThat(summary.isMyCompany(), is(true));
+        assertThat(summary.getOutboundDeparture(), is(epochSecond(NOVEMBER)));
+        assertThat(summary.getReturnDeparture(), is(epochSecond(OCTOBER)));
+        assertThat(summary.getEarliestDeparture(), is(epochSecond(OCTOBER)));
+        assertThat(summary.getLatestDeparture(), is(epochSecond(DECEMBER)));
+        assertThat(summary.getLatestReturnDeparture(), is(epochSecond(DECEMBER)));
+    }
+
+    @Test
+    public void followsLegsAddedAfterTheFirstQuery() {
+        Flight flight = aFlight().addLeg(leg("U2", OCTOBER)).build();
+        assertThat(flight.isOneWay(), is(true));
+
+        flight.getLegs().add(leg(FlightSummary.MY_COMPANY_AIRLINE_ID, NOVEMBER));
+        flight.getLegs().add(leg("U2", DECEMBER));
+
+        assertThat(flight.getSummary().getLegCount(), is(3));
+        assertThat(flight.isMyCompany(), is(true));
+        assertThat(flight.getSummary().getLatestDeparture(), is(epochSecond(DECEMBER)));
+    }
+
+    @Test
+    public void followsDepartureDatesChangedAfterTheFirstQuery() {
+        Flight flight = aFlight()
+                .addLeg(leg("U2", OCTOBER))
+                .addLeg(leg("U2", OCTOBER))
+                .addLeg(leg("U2", OCTOBER))
+                .build();
+        assertThat(flight.hasAtLeastOneDepartureAfter(epochSecond(OCTOBER)), is(false));
+
+        flight.getLegs().get(2).getDeparture().setDate(DECEMBER);
+
+        assertThat(flight.hasAtLeastOneDepartureAfter(epochSecond(OCTOBER)), is(true));
+        assertThat(flight.getSummary().getLatestReturnDeparture(), is(epochSecond(DECEMBER)));
+
+        flight.getLegs().get(2).getHops().get(0).setDeparture(new PlaceTime(null, NOVEMBER, null));
+
+        assertThat(flight.getSummary().getLatestDeparture(), is(epochSecond(NOVEMBER)));
+    }
+
+    @Test
+    public void followsChangesToLegsAddedAfterTheFirstQuery() {
+        Flight flight = aFlight().addLeg(leg("U2", OCTOBER)).build();
+        Leg added = leg("U2", OCTOBER);
+        flight.getLegs().add(added);
+        assertThat(flight.isMyCompany(), is(false));
+
+        added.getHops().get(0).getHopFlight().setAirlineId(FlightSummary.MY_COMPANY_AIRLINE_ID);
+        added.getDeparture().setDate(DECEMBER);
+
+        assertThat(flight.isMyCompany(), is(true));
+        assertThat(flight.getSummary().getLatestDeparture(), is(epochSecond(DECEMBER)));
+    }
+
+    @Test
+    public void keepsTheSummaryWhileOtherFlightsChange() {
+        Flight flight = aFlight().addLeg(leg("U2", OCTOBER)).addLeg(leg("U2", NOVEMBER)).build();
+        Flight another = aFlight().addLeg(leg("U2", OCTOBER)).build();
+        FlightSummary summary = flight.getSummary();
+
+        new HopFlight().setAirlineId("UNRELATED");
+        new PlaceTime(null, DECEMBER, null).setDate(OCTOBER);
+        aFlight().addLeg(leg(FlightSummary.MY_COMPANY_AIRLINE_ID, DECEMBER)).build();
+        another.getLegs().add(leg(FlightSummary.MY_COMPANY_AIRLINE_ID, DECEMBER));
+        another.getLegs().get(0).getDeparture().setDate(DECEMBER);
+
+        assertThat(flight.getSummary(), is(sameInstance(summary)));
+    }
+
+    @Test
+    public void stopsFollowingALegMovedToAnotherFlight() {
+        Flight flight = aFlight().addLeg(leg("U2", OCTOBER)).addLeg(leg("U2", NOVEMBER)).build();
+        Flight another = aFlight().addLeg(leg("U2", OCTOBER)).build();
+        Leg moved = flight.getLegs().remove(1);
+        another.getLegs().add(moved);
+        FlightSummary summary = flight.getSummary();
+
+        moved.getDeparture().setDate(DECEMBER);
+
+        assertThat(flight.getSummary(), is(sameInstance(summary)));
+        assertThat(another.getSummary().getLatestDeparture(), is(epochSecond(DECEMBER)));
+    }
+
+    private static Leg leg(String airlineId, LocalDateTime departure) {
+        return aLeg().withHops(aHop().withAirlineId(airlineId).withDepartureTime(departure).build()).build();
+    }
+
+    private static long epochSecond(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,117 @@
+package it.fbonfadelli.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FlightsTest {
+
+    @Test
+    public void findsFlightsInSmallOrders() {
+        Flights flights = new Flights(flightsWithIds(3, 1, 2));
+
+        assertThat(flights.positionOf(1), is(1));
+        assertThat(flights.positionOf(4), is(Flights.NOT_FOUND));
+    }
+
+    @Test
+    public void findsFlightsInLargeOrders() {
+        List<Flight> manyFlights = new ArrayList<>();
+        for (int flightId = 1000; flightId > 0; flightId--) {
+            manyFlights.add(flightWithId(flightId));
+        }
+        Flights flights = new Flights(manyFlights);
+
+        assertThat(flights.positionOf(1000), is(0));
+        assertThat(flights.positionOf(1), is(999));
+        assertThat(flights.positionOf(-1), is(Flights.NOT_FOUND));
+        assertThat(flights.positionOf(1001), is(Flights.NOT_FOUND));
+    }
+
+    @Test
+    public void findsTheFirstOfDuplicatedFlightIds() {
+        Flights flights = new Flights(flightsWithIds(1, 2, 3, 4, 5, 6, 7, 8, 9, 7, 10));
+
+        assertThat(flights.positionOf(7), is(6));
+    }
+
+    @Test
+    public void keepsTheIndexInSyncWithTheFlights() {
+        Flights flights = new Flights(flightsWithIds(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        assertThat(flights.positionOf(11), is(Flights.NOT_FOUND));
+
+        flights.add(0, flightWithId(11));
+
+        assertThat(flights.positionOf(11), is(0));
+        assertThat(flights.positionOf(10), is(10));
+    }
+
+    @Test
+    public void keepsTheIndexInSyncWithReplacedFlights() {
+        Flights flights = new Flights(flightsWithIds(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+        assertThat(flights.positionOf(5), is(4));
+
+        flights.set(4, flightWithId(100));
+
+        assertThat(flights.positionOf(5), is(Flights.NOT_FOUND));
+        assertThat(flights.positionOf(100), is(4));
+
+        flights.replaceAll(flight -> flight.getFlightId() == 100 ? flightWithId(5) : flight);
+
+        assertThat(flights.positionOf(5), is(4));
+        assertThat(flights.positionOf(100), is(Flights.NOT_FOUND));
+    }
+
+    @Test
+    public void findsFlightsWhoseIdChangedAfterTheFirstLookup() {
+        Flights flights = new Flights(flightsWithIds(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+        assertThat(flights.positionOf(5), is(4));
+
+        flights.get(4).setFlightId(100);
+
+        assertThat(flights.positionOf(5), is(Flights.NOT_FOUND));
+        assertThat(flights.positionOf(100), is(4));
+    }
+
+    @Test
+    public void findsFlightsAddedAndThenRenamed() {
+        Flights flights = new Flights(flightsWithIds(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+        Flight added = flightWithId(13);
+        flights.add(added);
+        flights.listIterator(flights.size()).add(flightWithId(14));
+        assertThat(flights.positionOf(13), is(12));
+
+        added.setFlightId(200);
+        flights.get(13).setFlightId(300);
+
+        assertThat(flights.positionOf(13), is(Flights.NOT_FOUND));
+        assertThat(flights.positionOf(200), is(12));
+        assertThat(flights.positionOf(300), is(13));
+    }
+
+    @Test(expected = FlightNotFoundException.class)
+    public void ordersRejectUnknownFlights() {
+        Order order = new Order();
+        order.getProducts().setFlights(new Flights(flightsWithIds(1, 2)));
+
+        order.getFlight(3);
+    }
+
+    private static List<Flight> flightsWithIds(int... flightIds) {
+        List<Flight> flights = new ArrayList<>();
+        for (int flightId : flightIds) {
+            flights.add(flightWithId(flightId));
+        }
+        return flights;
+    }
+
+    private static Flight flightWithId(int flightId) {
+        Flight flight = new Flight();
+        flight.setFlightId(flightId);
+        return flight;
+    }
+}
@@ -0,0 +1,59 @@
+package it.fbonfadelli.model;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static it.fbonfadelli.FlightBuilder.aFlight;
+import static it.fbonfadelli.HopBuilder.aHop;
+import static it.fbonfadelli.LegBuilder.aLeg;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class PlaceTimeTest {
+    private static final long FIRST_OF_NOVEMBER = LocalDateTime.of(2018, 11, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @Test
+    public void keepsTheLocalDateAndTheUtcInstant() {
+        PlaceTime rome = new PlaceTime(new Airport(), LocalDateTime.of(2018, 11, 1, 0, 30), "2018-10-31T23:30:00Z");
+
+        assertThat(rome.getDate(), is(LocalDateTime.of(2018, 11, 1, 0, 30)));
+        assertThat(rome.getDateUtc(), is("2018-10-31T23:30:00Z"));
+        assertThat(rome.getOffset(), is(ZoneOffset.ofHours(1)));
+
+        rome.setDate(LocalDateTime.of(2018, 11, 2, 10, 0));
+
+        assertThat(rome.getDateUtc(), is("2018-11-02T09:00:00Z"));
+    }
+
+    @Test
+    public void treatsTheLocalDateAsUtcWithoutAnIsoInstant() {
+        PlaceTime placeTime = new PlaceTime(new Airport(), LocalDateTime.of(2018, 11, 1, 0, 0, 0, 1), "20181101Z");
+        PlaceTime withoutDate = new PlaceTime(new Airport(), null, null);
+
+        assertThat(placeTime.getOffset(), is(ZoneOffset.UTC));
+        assertThat(placeTime.isAfter(FIRST_OF_NOVEMBER), is(true));
+        assertThat(withoutDate.getDate(), is(nullValue()));
+        assertThat(withoutDate.isAfter(FIRST_OF_NOVEMBER), is(false));
+    }
+
+    @Test
+    public void comparesDeparturesAgainstTheCutoffInUtc() {
+        PlaceTime romeAfterLocalMidnight = new PlaceTime(new Airport(), LocalDateTime.of(2018, 11, 1, 0, 30), "2018-10-31T23:30:00Z");
+        PlaceTime newYorkBeforeLocalMidnight = new PlaceTime(new Airport(), LocalDateTime.of(2018, 10, 31, 21, 0), "2018-10-31T21:00:00-04:00");
+
+        Flight fromRome = flightDepartingFrom(romeAfterLocalMidnight);
+        Flight fromNewYork = flightDepartingFrom(newYorkBeforeLocalMidnight);
+
+        assertThat(fromRome.hasAtLeastOneDepartureAfter(FIRST_OF_NOVEMBER), is(false));
+        assertThat(fromRome.getOutboundDepartureDate(), is(LocalDateTime.of(2018, 11, 1, 0, 30)));
+        assertThat(fromNewYork.hasAtLeastOneDepartureAfter(FIRST_OF_NOVEMBER), is(true));
+        assertThat(newYorkBeforeLocalMidnight.getDateUtc(), is("2018-11-01T01:00:00Z"));
+    }
+
+    private static Flight flightDepartingFrom(PlaceTime departure) {
+        return aFlight().addLeg(aLeg().withHops(aHop().withDeparture(departure).build()).build()).build();
+    }
+}
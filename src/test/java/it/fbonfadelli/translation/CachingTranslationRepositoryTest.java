@@ -0,0 +1,147 @@
+package it.fbonfadelli.translation;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CachingTranslationRepositoryTest {
+
+    private static final String A_LANGUAGE = "::a_language::";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final TranslationRepository countingRepository = (key, language) -> {
+        loads.incrementAndGet();
+        return key + "@" + language;
+    };
+
+    @Test
+    public void retrievesFromTheDelegateOnlyOnTheFirstCall() {
+        CachingTranslationRepository repository = CachingTranslationRepository.builder(countingRepository).build();
+
+        assertThat(repository.retrieve("::a_key::", A_LANGUAGE), is("::a_key::@" + A_LANGUAGE));
+        assertThat(repository.retrieve("::a_key::", A_LANGUAGE), is("::a_key::@" + A_LANGUAGE));
+
+        assertThat(loads.get(), is(1));
+        assertThat(repository.stats().getHitCount(), is(1L));
+        assertThat(repository.stats().getMissCount(), is(1L));
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedTranslation() {
+        CachingTranslationRepository repository = CachingTranslationRepository.builder(countingRepository)
+                .withMaximumSize(2)
+                .withConcurrencyLevel(1)
+                .build();
+
+        repository.retrieve("::first::", A_LANGUAGE);
+        repository.retrieve("::second::", A_LANGUAGE);
+        repository.retrieve("::first::", A_LANGUAGE);
+        repository.retrieve("::third::", A_LANGUAGE);
+        repository.retrieve("::first::", A_LANGUAGE);
+        repository.retrieve("::second::", A_LANGUAGE);
+
+        assertThat(loads.get(), is(4));
+        assertThat(repository.size(), is(2L));
+        assertThat(repository.stats().getEvictionCount(), is(2L));
+    }
+
+    @Test
+    public void reloadsTranslationsExpiredAfterWrite() {
+        AtomicLong now = new AtomicLong();
+        CachingTranslationRepository repository = CachingTranslationRepository.builder(countingRepository)
+                .withExpireAfterWrite(Duration.ofMinutes(5))
+                .withTicker(now::get)
+                .build();
+
+        repository.retrieve("::a_key::", A_LANGUAGE);
+        now.addAndGet(TimeUnit.MINUTES.toNanos(4));
+        repository.retrieve("::a_key::", A_LANGUAGE);
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        repository.retrieve("::a_key::", A_LANGUAGE);
+
+        assertThat(loads.get(), is(2));
+        assertThat(repository.stats().getExpirationCount(), is(1L));
+        assertThat(repository.stats().getEvictionCount(), is(0L));
+    }
+
+    @Test
+    public void doesNotCacheATranslationInvalidatedWhileLoading() {
+        AtomicReference<CachingTranslationRepository> repository = new AtomicReference<>();
+        repository.set(CachingTranslationRepository.builder((key, language) -> {
+            loads.incrementAndGet();
+            repository.get().invalidate(key, language);
+            return key + "@" + language;
+        }).build());
+
+        repository.get().retrieve("::a_key::", A_LANGUAGE);
+        repository.get().retrieveAll(Arrays.asList("::another_key::"), A_LANGUAGE);
+
+        assertThat(repository.get().size(), is(0L));
+    }
+
+    @Test
+    public void countsADuplicatedKeyOnce() {
+        CachingTranslationRepository repository = CachingTranslationRepository.builder(countingRepository).build();
+        List<String> keys = Arrays.asList("::a_key::", "::a_key::");
+
+        Map<String, String> translations = repository.retrieveAll(keys, A_LANGUAGE);
+        repository.retrieveAll(keys, A_LANGUAGE);
+
+        assertThat(translations.size(), is(1));
+        assertThat(loads.get(), is(1));
+        assertThat(repository.stats().getMissCount(), is(1L));
+        assertThat(repository.stats().getHitCount(), is(1L));
+    }
+
+    @Test
+    public void doesNotCacheMissingTranslations() {
+        CachingTranslationRepository repository = CachingTranslationRepository.builder((key, language) -> {
+            loads.incrementAndGet();
+            return null;
+        }).build();
+
+        repository.retrieve("::a_key::", A_LANGUAGE);
+        repository.retrieve("::a_key::", A_LANGUAGE);
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void warmsAllTheMissingKeysOfALanguageWithASingleBulkLoad() {
+        AtomicInteger bulkLoads = new AtomicInteger();
+        CachingTranslationRepository repository = CachingTranslationRepository.builder(new TranslationRepository() {
+            @Override
+            public String retrieve(String key, String language) {
+                return countingRepository.retrieve(key, language);
+            }
+
+            @Override
+            public Map<String, String> retrieveAll(Collection<String> keys, String language) {
+                bulkLoads.incrementAndGet();
+                return TranslationRepository.super.retrieveAll(keys, language);
+            }
+        }).build();
+        List<String> keys = Arrays.asList("::first::", "::second::", "::third::");
+
+        repository.retrieve("::second::", A_LANGUAGE);
+        Map<String, String> translations = repository.retrieveAll(keys, A_LANGUAGE);
+        repository.retrieveAll(keys, A_LANGUAGE);
+
+        assertThat(translations.keySet().toArray(), is(keys.toArray()));
+        assertThat(translations.get("::third::"), is("::third::@" + A_LANGUAGE));
+        assertThat(bulkLoads.get(), is(1));
+        assertThat(loads.get(), is(3));
+        assertThat(repository.stats().getHitCount(), is(4L));
+    }
+}
@@ -0,0 +1,158 @@
+package it.fbonfadelli.translation;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class CoalescingTranslationRepositoryTest {
+
+    private static final String A_KEY = "customer_area.new_hand_baggage_policy.label.my_company_id";
+    private static final String A_LANGUAGE = "::a_language::";
+    private static final int THREADS = 64;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch catalogResponds = new CountDownLatch(1);
+
+    @Test
+    public void concurrentMissesShareASingleLoad() throws Exception {
+        CoalescingTranslationRepository repository = new CoalescingTranslationRepository((key, language) -> {
+            loads.incrementAndGet();
+            awaitCatalog();
+            return key + "@" + language;
+        });
+
+        List<Future<Object>> results = retrieveConcurrently(repository);
+
+        for (Future<Object> result : results) {
+            assertThat(result.get(), is((Object) (A_KEY + "@" + A_LANGUAGE)));
+        }
+        assertThat(loads.get(), is(1));
+        assertThat(repository.loadCount(), is(1L));
+        assertThat(repository.coalescedCallCount(), is((long) THREADS - 1));
+        assertThat(repository.inFlightLoadCount(), is(0));
+    }
+
+    @Test
+    public void everyWaiterSeesTheFailureOfTheSharedLoad() throws Exception {
+        CoalescingTranslationRepository repository = new CoalescingTranslationRepository((key, language) -> {
+            loads.incrementAndGet();
+            awaitCatalog();
+            throw new IllegalStateException("::catalog_unavailable::");
+        });
+
+        List<Future<Object>> results = retrieveConcurrently(repository);
+
+        for (Future<Object> result : results) {
+            assertThat(result.get(), instanceOf(IllegalStateException.class));
+        }
+        assertThat(loads.get(), is(1));
+        assertThat(repository.inFlightLoadCount(), is(0));
+    }
+
+    @Test
+    public void loadsAgainOnceTheSharedLoadIsOver() {
+        CoalescingTranslationRepository repository = new CoalescingTranslationRepository((key, language) -> {
+            loads.incrementAndGet();
+            return key + "@" + language;
+        });
+
+        repository.retrieve(A_KEY, A_LANGUAGE);
+        repository.retrieve(A_KEY, A_LANGUAGE);
+
+        assertThat(loads.get(), is(2));
+        assertThat(repository.coalescedCallCount(), is(0L));
+    }
+
+    @Test
+    public void bulkLoadsOnlyTheKeysNobodyElseIsLoading() throws Exception {
+        List<Collection<String>> bulkLoads = new ArrayList<>();
+        CoalescingTranslationRepository repository = new CoalescingTranslationRepository(new TranslationRepository() {
+            @Override
+            public String retrieve(String key, String language) {
+                loads.incrementAndGet();
+                awaitCatalog();
+                return key + "@" + language;
+            }
+
+            @Override
+            public Map<String, String> retrieveAll(Collection<String> keys, String language) {
+                bulkLoads.add(new ArrayList<>(keys));
+                return TranslationRepository.super.retrieveAll(keys, language);
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> slowLoad = executor.submit(() -> repository.retrieve(A_KEY, A_LANGUAGE));
+            while (repository.inFlightLoadCount() == 0) {
+                Thread.sleep(1);
+            }
+
+            Future<Map<String, String>> translations = executor.submit(() -> repository.retrieveAll(Arrays.asList(A_KEY, "::another_key::"), A_LANGUAGE));
+            while (repository.coalescedCallCount() == 0) {
+                Thread.sleep(1);
+            }
+            catalogResponds.countDown();
+
+            assertThat(translations.get().get(A_KEY), is(slowLoad.get()));
+            assertThat(translations.get().get("::another_key::"), is("::another_key::@" + A_LANGUAGE));
+            assertThat(bulkLoads.size(), is(1));
+            assertThat(bulkLoads.get(0), is((Collection<String>) Arrays.asList("::another_key::")));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<Future<Object>> retrieveConcurrently(CoalescingTranslationRepository repository) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    try {
+                        return repository.retrieve(A_KEY, A_LANGUAGE);
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (repository.coalescedCallCount() < THREADS - 1) {
+                if (System.nanoTime() > deadline) {
+                    fail("Only " + repository.coalescedCallCount() + " calls were coalesced");
+                }
+                Thread.sleep(1);
+            }
+            catalogResponds.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitCatalog() {
+        try {
+            catalogResponds.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package it.fbonfadelli.translation;
+
+import it.fbonfadelli.OrderBuilder;
+import it.fbonfadelli.RandomFlights;
+import it.fbonfadelli.hand_baggage.HandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.factory.NotMyCompanyHandBaggageInformationFactory;
+import it.fbonfadelli.hand_baggage.policy.HandBaggagePoliciesFactory;
+import it.fbonfadelli.model.Order;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class JfrSupportTest {
+
+    private static final String A_KEY = "::a_key::";
+    private static final String A_LANGUAGE = "::a_language::";
+
+    @Test
+    public void isAvailableOnThisRuntime() {
+        assertThat(JfrSupport.isAvailable(), is(true));
+    }
+
+    @Test
+    public void translatesAndEvaluatesOnARuntimeWithoutJfr() throws Exception {
+        try (WithoutJfrClassLoader classLoader = new WithoutJfrClassLoader()) {
+            Runnable withoutJfr = (Runnable) classLoader.loadClass(TranslatesAndEvaluates.class.getName()).getDeclaredConstructor().newInstance();
+            withoutJfr.run();
+        }
+    }
+
+    public static class TranslatesAndEvaluates implements Runnable {
+        @Override
+        public void run() {
+            TranslationRepository catalog = (key, language) -> key + "@" + language;
+            TranslationRepository caching = CachingTranslationRepository.builder(catalog).build();
+            TranslationRepository recording = new FlightRecordingTranslationRepository(catalog);
+            HandBaggageInformationFactory factory = new HandBaggageInformationFactory(
+                    HandBaggagePoliciesFactory.make(caching), new NotMyCompanyHandBaggageInformationFactory());
+            Order order = OrderBuilder.anOrder().withFlights(new RandomFlights(1L).aFlight(1, 2)).build();
+
+            assertThat(JfrSupport.isAvailable(), is(false));
+            assertThat(caching.retrieve(A_KEY, A_LANGUAGE), is(A_KEY + "@" + A_LANGUAGE));
+            assertThat(caching.retrieveAll(Collections.singletonList(A_KEY), A_LANGUAGE).get(A_KEY), is(A_KEY + "@" + A_LANGUAGE));
+            assertThat(recording.retrieve(A_KEY, A_LANGUAGE), is(A_KEY + "@" + A_LANGUAGE));
+            assertThat(recording.retrieveAll(Collections.singletonList(A_KEY), A_LANGUAGE).get(A_KEY), is(A_KEY + "@" + A_LANGUAGE));
+            assertThat(factory.from(order, A_LANGUAGE, 1), is(factory.fromAll(order, A_LANGUAGE).get(1)));
+        }
+    }
+
+    private static class WithoutJfrClassLoader extends URLClassLoader {
+        private static final String PROJECT_PACKAGE = "it.fbonfadelli.";
+
+        WithoutJfrClassLoader() {
+            super(new URL[]{
+                    JfrSupport.class.getProtectionDomain().getCodeSource().getLocation(),
+                    JfrSupportTest.class.getProtectionDomain().getCodeSource().getLocation()
+            }, JfrSupportTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("jdk.jfr.")) {
+                throw new ClassNotFoundException(name);
+            }
+            if (!name.startsWith(PROJECT_PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded == null ? findClass(name) : loaded;
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package it.fbonfadelli.translation;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class TranslationFetchEventTest {
+
+    private static final String A_KEY = "::a_key::";
+    private static final String ANOTHER_KEY = "::another_key::";
+    private static final String A_LANGUAGE = "::a_language::";
+
+    private final TranslationRepository catalog = (key, language) -> key + "@" + language;
+
+    @Test
+    public void recordsTheOutcomeOfTheCacheLookups() throws Exception {
+        CachingTranslationRepository repository = CachingTranslationRepository.builder(catalog).build();
+
+        List<RecordedEvent> events = recordFetches(Duration.ZERO, () -> {
+            repository.retrieve(A_KEY, A_LANGUAGE);
+            repository.retrieve(A_KEY, A_LANGUAGE);
+            repository.retrieveAll(Arrays.asList(A_KEY, ANOTHER_KEY), A_LANGUAGE);
+        });
+
+        assertThat(events.size(), is(3));
+        assertThat(events.get(0).getString("key"), is(A_KEY));
+        assertThat(events.get(0).getString("language"), is(A_LANGUAGE));
+        assertThat(events.get(0).getString("cache"), is(TranslationFetchEvent.MISS));
+        assertThat(events.get(1).getString("cache"), is(TranslationFetchEvent.HIT));
+        assertThat(events.get(2).getString("key"), is(A_KEY + "," + ANOTHER_KEY));
+        assertThat(events.get(2).getString("cache"), is(TranslationFetchEvent.PARTIAL_HIT));
+    }
+
+    @Test
+    public void recordsTheSlowFetchesOfAnyRepository() throws Exception {
+        TranslationRepository slowCatalog = new FlightRecordingTranslationRepository((key, language) -> {
+            if (key.equals(ANOTHER_KEY)) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return key;
+        });
+
+        List<RecordedEvent> events = recordFetches(Duration.ofMillis(20), () -> {
+            slowCatalog.retrieve(A_KEY, A_LANGUAGE);
+            slowCatalog.retrieve(ANOTHER_KEY, A_LANGUAGE);
+        });
+
+        assertThat(events.size(), is(1));
+        assertThat(events.get(0).getString("key"), is(ANOTHER_KEY));
+        assertThat(events.get(0).getString("cache"), is(nullValue()));
+    }
+
+    private static List<RecordedEvent> recordFetches(Duration threshold, Runnable fetches) throws Exception {
+        Path dump = Files.createTempFile("translations", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TranslationFetchEvent.NAME).withThreshold(threshold);
+            recording.start();
+            fetches.run();
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+                if (event.getEventType().getName().equals(TranslationFetchEvent.NAME)) {
+                    events.add(event);
+                }
+            }
+            events.sort((first, second) -> first.getStartTime().compareTo(second.getStartTime()));
+            return events;
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+}
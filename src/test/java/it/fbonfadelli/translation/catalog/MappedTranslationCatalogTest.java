@@ -0,0 +1,81 @@
+package it.fbonfadelli.translation.catalog;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class MappedTranslationCatalogTest {
+
+    private static final String NEW_LABEL = "customer_area.new_hand_baggage_policy.label.my_company_id";
+    private static final String OLD_LINK = "customer_area.hand_baggage_policy.link.my_company_id";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void retrievesEveryTranslationOfTheBuiltCatalog() throws IOException {
+        TranslationCatalogBuilder builder = new TranslationCatalogBuilder();
+        Map<String, String> expected = new HashMap<>();
+        Random random = new Random(20181101L);
+        for (int i = 0; i < 10_000; i++) {
+            String key = "customer_area.key_" + i + (i % 5 == 0 ? ".\u00e8\u20ac\ud83d\udec4" : "");
+            String language = i % 3 == 0 ? "it" : "en";
+            String value = "translation " + random.nextInt() + (i % 7 == 0 ? " \u00e0\u00e8\u00ec \u20ac \ud83d\udec4" : "");
+            builder.add(key, language, value);
+            expected.put(key + "@" + language, value);
+        }
+
+        MappedTranslationCatalog catalog = MappedTranslationCatalog.open(write(builder));
+
+        assertThat(catalog.size(), is(10_000));
+        for (Map.Entry<String, String> translation : expected.entrySet()) {
+            String[] keyAndLanguage = translation.getKey().split("@");
+            assertThat(catalog.retrieve(keyAndLanguage[0], keyAndLanguage[1]), is(translation.getValue()));
+        }
+    }
+
+    @Test
+    public void missingTranslationsAreNull() throws IOException {
+        MappedTranslationCatalog catalog = MappedTranslationCatalog.open(write(new TranslationCatalogBuilder()
+                .add(NEW_LABEL, "en", "Small carry-on bag included.")
+                .add(OLD_LINK, "en", "https://www.mycompany.com/hand-luggage")));
+
+        assertThat(catalog.retrieve(NEW_LABEL, "it"), is(nullValue()));
+        assertThat(catalog.retrieve(NEW_LABEL + ".missing", "en"), is(nullValue()));
+        assertThat(catalog.retrieve(NEW_LABEL, null), is(nullValue()));
+        assertThat(MappedTranslationCatalog.open(write(new TranslationCatalogBuilder())).retrieve(NEW_LABEL, "en"), is(nullValue()));
+    }
+
+    @Test
+    public void convertsCsvAndPropertiesCatalogs() throws IOException {
+        TranslationCatalogBuilder builder = new TranslationCatalogBuilder()
+                .addCsv(new StringReader("# language,key,value\n" +
+                        "en," + NEW_LABEL + ",Small carry-on bag included, check the {{link}}.\n" +
+                        "\n" +
+                        "it," + NEW_LABEL + ",Bagaglio a mano incluso, controlla le {{link}}.\n"))
+                .addProperties(new StringReader(OLD_LINK + "=https://www.mycompany.com/fr/bagages\n"), "fr");
+
+        MappedTranslationCatalog catalog = MappedTranslationCatalog.open(write(builder));
+
+        assertThat(catalog.retrieve(NEW_LABEL, "en"), is("Small carry-on bag included, check the {{link}}."));
+        assertThat(catalog.retrieve(NEW_LABEL, "it"), is("Bagaglio a mano incluso, controlla le {{link}}."));
+        assertThat(catalog.retrieve(OLD_LINK, "fr"), is("https://www.mycompany.com/fr/bagages"));
+    }
+
+    private Path write(TranslationCatalogBuilder builder) throws IOException {
+        Path catalog = temporaryFolder.newFile().toPath();
+        builder.writeTo(catalog);
+        return catalog;
+    }
+}
@@ -0,0 +1,64 @@
+package it.fbonfadelli.translation.template;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class TemplateTest {
+
+    private static final String A_LINK = "<a href=\"::the_link::\">{{label}}</a>";
+
+    @Test
+    public void rendersLikeStringReplace() {
+        List<String> sources = Arrays.asList(
+                "Small carry-on bag included. For more information, please check the {{link}}.",
+                "no placeholders at all",
+                "",
+                "{{link}}",
+                "{{link}}{{link}} and {{link}}",
+                "{{{link}}}",
+                "{{{{link}}",
+                "{{link",
+                "{{}} {{link}} }}",
+                "{{other}} stays, {{link}} goes",
+                "{{a}b}} {{link}}"
+        );
+
+        for (String source : sources) {
+            assertThat(source, Template.compile(source).render("link", A_LINK), is(source.replace("{{link}}", A_LINK)));
+        }
+    }
+
+    @Test
+    public void bindsAnyNamedPlaceholder() {
+        Template template = Template.compile("<a target=\"_blank\" href=\"{{link}}\">{{label}}</a> {{missing}}");
+        Map<String, String> values = new HashMap<>();
+        values.put("link", "::the_link::");
+        values.put("label", "::the_label::");
+
+        assertThat(template.placeholders(), is(Arrays.asList("link", "label", "missing")));
+        assertThat(template.render(values::get), is("<a target=\"_blank\" href=\"::the_link::\">::the_label::</a> {{missing}}"));
+    }
+
+    @Test
+    public void recompilesOnlyWhenTheTranslationChanges() {
+        TemplateCache templateCache = new TemplateCache();
+
+        Template first = templateCache.get("::a_key::", "::a_language::", "check the {{link}}");
+        Template second = templateCache.get("::a_key::", "::a_language::", new String("check the {{link}}"));
+        Template updated = templateCache.get("::a_key::", "::a_language::", "please check the {{link}}");
+
+        assertThat(second, sameInstance(first));
+        assertThat(updated, not(sameInstance(first)));
+        assertThat(updated.render("link", "rules"), is("please check the rules"));
+        assertThat(templateCache.get("::a_key::", "::another_language::", "check the {{link}}"), not(sameInstance(first)));
+    }
+}